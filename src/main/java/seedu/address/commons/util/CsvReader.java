@@ -0,0 +1,178 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the rows of comma-separated values, as described in RFC 4180, one row at a time from a {@code Reader}, so
+ * that only the row being read is held in memory.
+ * A value may be enclosed in double quotes, in which case it can contain commas, line breaks, and double quotes
+ * escaped by doubling them. Rows may end with either CRLF or LF, and empty lines are skipped.
+ * A byte order mark at the start of the input is ignored.
+ * The offset at which each row ends is tracked, so that a later reader can continue from there.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Row %1$d has a quoted value that is not closed!";
+    public static final String MESSAGE_CHARACTERS_AFTER_QUOTE = "Row %1$d has characters after the closing quote"
+            + " of a value!";
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final int END_OF_INPUT = -1;
+
+    private final BufferedReader reader;
+    private final StringBuilder value = new StringBuilder();
+    private int rowNumber;
+    private long byteOffset;
+    private boolean isAtStart;
+
+    /**
+     * Creates a {@code CsvReader} reading from {@code reader}, which is buffered if it is not already.
+     */
+    public CsvReader(Reader reader) {
+        this(reader, 0, 0);
+        isAtStart = true;
+    }
+
+    /**
+     * Creates a {@code CsvReader} that continues reading from {@code reader} in the middle of the input, after
+     * {@code rowNumber} rows that end at {@code byteOffset}, as returned by {@link #getByteOffset()}.
+     */
+    public CsvReader(Reader reader, int rowNumber, long byteOffset) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.rowNumber = rowNumber;
+        this.byteOffset = byteOffset;
+    }
+
+    /**
+     * Returns the 1-based number of the row last returned by {@link #readRow()}, or 0 if no row has been read.
+     * Empty lines that were skipped are not counted.
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Returns the number of bytes that the input read up to the end of the row last returned by {@link #readRow()}
+     * takes up in UTF-8, which is its offset in a UTF-8 file.
+     */
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    /**
+     * Reads the next row, or returns null if there are no more rows.
+     *
+     * @throws IOException if there was an error reading from the underlying reader.
+     * @throws IllegalValueException if the row is not valid comma-separated values.
+     */
+    public List<String> readRow() throws IOException, IllegalValueException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        rowNumber++;
+        List<String> row = new ArrayList<>();
+        while (true) {
+            value.setLength(0);
+            if (c == QUOTE) {
+                c = readQuotedValue();
+            } else {
+                while (c != SEPARATOR && c != '\n' && c != END_OF_INPUT) {
+                    value.append((char) c);
+                    c = read();
+                }
+            }
+
+            if (c == '\n' && value.length() > 0 && value.charAt(value.length() - 1) == '\r') {
+                value.setLength(value.length() - 1);
+            }
+            row.add(value.toString());
+            if (c != SEPARATOR) {
+                return row;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Reads a quoted value, whose opening quote has been read, into {@code value}.
+     *
+     * @return the character following the value.
+     */
+    private int readQuotedValue() throws IOException, IllegalValueException {
+        while (true) {
+            int c = read();
+            if (c == END_OF_INPUT) {
+                throw new IllegalValueException(String.format(MESSAGE_UNCLOSED_QUOTE, rowNumber));
+            }
+            if (c != QUOTE) {
+                value.append((char) c);
+                continue;
+            }
+
+            c = read();
+            if (c == QUOTE) {
+                value.append(QUOTE);
+                continue;
+            }
+            if (c == '\r') {
+                c = read();
+                if (c != '\n' && c != END_OF_INPUT) {
+                    throw new IllegalValueException(String.format(MESSAGE_CHARACTERS_AFTER_QUOTE, rowNumber));
+                }
+            }
+            if (c != SEPARATOR && c != '\n' && c != END_OF_INPUT) {
+                throw new IllegalValueException(String.format(MESSAGE_CHARACTERS_AFTER_QUOTE, rowNumber));
+            }
+            return c;
+        }
+    }
+
+    private int read() throws IOException {
+        int c = readCharacter();
+        if (isAtStart) {
+            isAtStart = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = readCharacter();
+            }
+        }
+        return c;
+    }
+
+    private int readCharacter() throws IOException {
+        int c = reader.read();
+        if (c == END_OF_INPUT) {
+            return c;
+        }
+        if (c < 0x80) {
+            byteOffset += 1;
+        } else if (c < 0x800 || Character.isSurrogate((char) c)) {
+            // each half of a surrogate pair counts for half of the 4 bytes of the pair
+            byteOffset += 2;
+        } else {
+            byteOffset += 3;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows of comma-separated values, as described in RFC 4180, one value at a time to a {@code Writer}, so that
+ * no more than one row has to be built up in memory.
+ * Values containing commas, double quotes or line breaks are enclosed in double quotes, with double quotes escaped
+ * by doubling them, so that they can be read back with {@link CsvReader}. Rows end with LF.
+ * Output is buffered, so that writing many small values does not write to the underlying writer each time.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    /** Size, in characters, of the buffer of the output. */
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final char LINE_BREAK = '\n';
+
+    private final Writer writer;
+    private boolean isAtStartOfRow = true;
+
+    /**
+     * Creates a {@code CsvWriter} writing to {@code writer}, which is buffered if it is not already.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, BUFFER_SIZE);
+    }
+
+    /**
+     * Writes {@code value} as the next value of the current row.
+     */
+    public void writeValue(String value) throws IOException {
+        requireNonNull(value);
+        if (!isAtStartOfRow) {
+            writer.write(SEPARATOR);
+        }
+        isAtStartOfRow = false;
+
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        int start = 0;
+        for (int i = value.indexOf(QUOTE); i != -1; i = value.indexOf(QUOTE, i + 1)) {
+            writer.write(value, start, i + 1 - start);
+            writer.write(QUOTE);
+            start = i + 1;
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write(QUOTE);
+    }
+
+    /**
+     * Ends the current row, so that the next value is written to a new row.
+     */
+    public void endRow() throws IOException {
+        writer.write(LINE_BREAK);
+        isAtStartOfRow = true;
+    }
+
+    /**
+     * Writes {@code values} as a whole row.
+     */
+    public void writeRow(List<String> values) throws IOException {
+        requireNonNull(values);
+        for (String value : values) {
+            writeValue(value);
+        }
+        endRow();
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -38,6 +38,31 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if a word of the {@code sentence} starts with {@code prefix}.
+     *   Ignores case.
+     *   <br>examples:<pre>
+     *       containsWordPrefixIgnoreCase("ABc def", "ab") == true
+     *       containsWordPrefixIgnoreCase("ABc def", "DEF") == true
+     *       containsWordPrefixIgnoreCase("ABc def", "bc") == false //not the start of a word
+     *       </pre>
+     * @param sentence cannot be null
+     * @param prefix cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean containsWordPrefixIgnoreCase(String sentence, String prefix) {
+        requireNonNull(sentence);
+        requireNonNull(prefix);
+
+        String preppedPrefix = prefix.trim();
+        checkArgument(!preppedPrefix.isEmpty(), "Prefix parameter cannot be empty");
+        checkArgument(preppedPrefix.split("\\s+").length == 1, "Prefix parameter should be a single word");
+
+        String[] wordsInSentence = sentence.split("\\s+");
+
+        return Arrays.stream(wordsInSentence)
+                .anyMatch(word -> word.regionMatches(true, 0, preppedPrefix, 0, preppedPrefix.length()));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,137 @@
+package seedu.address.logic;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TaskContext;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs a {@code BackgroundCommand} on the thread that calls {@link #run()}. The changes of the command to the model,
+ * its progress and its end are all passed to the thread of the model executor.
+ */
+class BackgroundTask implements TaskContext, Runnable {
+
+    static final String MESSAGE_UNEXPECTED_ERROR = "An unexpected error occurred: %1$s";
+
+    /** Minimum time between two reports of progress, so that the thread of the model is not flooded with them. */
+    static final long PROGRESS_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTask.class);
+
+    private final BackgroundCommand command;
+    private final Model model;
+    private final Executor modelExecutor;
+    private final Consumer<String> progressListener;
+    private final Consumer<BackgroundTask> onFinished;
+
+    private final long startTime = System.nanoTime();
+    private long lastProgressTime = startTime - PROGRESS_INTERVAL_NANOS;
+    private volatile boolean isCancelled;
+
+    private CommandResult result;
+    private CommandException failure;
+
+    /**
+     * @param modelExecutor runs tasks on the thread that the model may be changed on
+     * @param progressListener receives the progress messages of the command, on the thread of {@code modelExecutor}
+     * @param onFinished receives this task once the command has ended, on the thread of {@code modelExecutor}
+     */
+    BackgroundTask(BackgroundCommand command, Model model, Executor modelExecutor, Consumer<String> progressListener,
+            Consumer<BackgroundTask> onFinished) {
+        this.command = command;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.progressListener = progressListener;
+        this.onFinished = onFinished;
+    }
+
+    @Override
+    public void run() {
+        try {
+            result = command.execute(model, this);
+        } catch (CommandException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            logger.warning("Background command failed unexpectedly: " + e);
+            failure = new CommandException(String.format(MESSAGE_UNEXPECTED_ERROR, e.getMessage()), e);
+        } finally {
+            modelExecutor.execute(() -> onFinished.accept(this));
+        }
+    }
+
+    /**
+     * Asks the command to stop as soon as it can.
+     */
+    void cancel() {
+        isCancelled = true;
+    }
+
+    /**
+     * Returns the result of the command, once it has ended.
+     *
+     * @throws CommandException if the command failed or was cancelled
+     */
+    CommandResult getResult() throws CommandException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (result == null) {
+            throw new CommandException(String.format(MESSAGE_UNEXPECTED_ERROR, "the command did not finish"));
+        }
+        return result;
+    }
+
+    @Override
+    public void reportProgress(int processedCount) {
+        long now = System.nanoTime();
+        if (now - lastProgressTime < PROGRESS_INTERVAL_NANOS) {
+            return;
+        }
+        lastProgressTime = now;
+        double processedPerSecond = processedCount / Math.max((now - startTime) / 1e9, 1e-3);
+        String progressMessage = command.getProgressMessage(processedCount, processedPerSecond);
+        modelExecutor.execute(() -> progressListener.accept(progressMessage));
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    @Override
+    public void applyToModel(Runnable change) {
+        FutureTask<Void> future = new FutureTask<>(change, null);
+        modelExecutor.execute(future);
+
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    future.get();
+                    return;
+                } catch (InterruptedException e) {
+                    // the change may already be running, so it is waited for all the same
+                    isInterrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
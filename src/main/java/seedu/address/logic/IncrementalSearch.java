@@ -0,0 +1,179 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the persons that a find command would find while it is still being typed.
+ * Only the persons with a word in their name that a keyword can match are matched, as found with the index of the
+ * address book, rather than every person. They are matched on the search executor, a batch at a time, and the
+ * persons shown are updated with the matches found so far after each batch, on the thread of the model executor.
+ * Once every such person has been matched, the persons shown are filtered by the search predicate itself, so that
+ * they follow later changes to the address book as the persons found by a find command do.
+ * Starting another search stops the one running, and the matches it has not shown yet are dropped. Once the command
+ * is no longer a find command, the persons shown before the searches began are shown again.
+ */
+class IncrementalSearch {
+
+    /** Number of persons matched between two updates of the persons shown. */
+    static final int PERSONS_PER_BATCH = 10_000;
+
+    private final Model model;
+    private final Executor searchExecutor;
+    private final Executor modelExecutor;
+
+    // Only changed on the thread of the model executor. A search stops once the generation is no longer its own.
+    private volatile long generation;
+    private long matchesGeneration = -1;
+    private Set<Person> matches;
+    private boolean isShowingMatches;
+    // The filter of the persons shown before the first of the searches since the last command, or null if there
+    // has been no search since then.
+    private Predicate<Person> filterBeforeSearch;
+
+    /**
+     * @param searchExecutor matches the persons of each search
+     * @param modelExecutor runs tasks on the thread that the model may be changed on, which is also the thread that
+     *     the methods of this search must be called on
+     */
+    IncrementalSearch(Model model, Executor searchExecutor, Executor modelExecutor) {
+        this.model = model;
+        this.searchExecutor = searchExecutor;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts showing the persons that {@code commandText} would find, if it is a find command with keywords.
+     * Otherwise, the persons shown before the searches began are shown again if the persons shown were found by a
+     * search.
+     * The last keyword also matches the start of a word of a name unless it is followed by a space, as it may not
+     * have been typed in full yet.
+     */
+    void search(String commandText) {
+        long searchGeneration = ++generation;
+        List<String> keywords = getKeywords(commandText);
+        if (keywords.isEmpty()) {
+            if (isShowingMatches) {
+                model.updateFilteredPersonList(filterBeforeSearch);
+                isShowingMatches = false;
+            }
+            filterBeforeSearch = null;
+            return;
+        }
+        if (filterBeforeSearch == null) {
+            filterBeforeSearch = model.getFilteredPersonListPredicate();
+        }
+
+        boolean isLastKeywordTyped = Character.isWhitespace(commandText.charAt(commandText.length() - 1));
+        List<String> typedKeywords = isLastKeywordTyped ? keywords : keywords.subList(0, keywords.size() - 1);
+        String partialKeyword = isLastKeywordTyped ? null : keywords.get(keywords.size() - 1);
+        Predicate<Person> predicate = isLastKeywordTyped
+                ? new NameContainsKeywordsPredicate(keywords)
+                : toPredicate(typedKeywords, partialKeyword);
+        // the persons are copied out of the index here, as it may only be read on the thread of the model
+        List<Person> candidates = model.getPersonsWithNameWords(typedKeywords, partialKeyword);
+        searchExecutor.execute(() -> match(searchGeneration, candidates, predicate));
+    }
+
+    /**
+     * Stops the running search, and leaves the persons shown as they are, as a command is about to set them.
+     */
+    void cancel() {
+        generation++;
+        isShowingMatches = false;
+        filterBeforeSearch = null;
+    }
+
+    /**
+     * Returns the keywords of {@code commandText} if it is a find command, or an empty list otherwise.
+     */
+    private static List<String> getKeywords(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (!words[0].equals(FindCommand.COMMAND_WORD)) {
+            return List.of();
+        }
+        return Arrays.asList(words).subList(1, words.length);
+    }
+
+    private static Predicate<Person> toPredicate(List<String> keywords, String partialKeyword) {
+        return new NameContainsKeywordsPredicate(keywords)
+                .or(person -> StringUtil.containsWordPrefixIgnoreCase(person.getName().fullName, partialKeyword));
+    }
+
+    /**
+     * Matches {@code persons} against {@code predicate}, and shows the matches after each batch, until the search
+     * of {@code searchGeneration} is stopped.
+     * A person in {@code persons} more than once is only shown once.
+     */
+    private void match(long searchGeneration, List<Person> persons, Predicate<Person> predicate) {
+        List<Person> batchMatches = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % PERSONS_PER_BATCH == 0) {
+                if (generation != searchGeneration) {
+                    return;
+                }
+                if (i > 0) {
+                    showMatches(searchGeneration, batchMatches);
+                    batchMatches = new ArrayList<>();
+                }
+            }
+            Person person = persons.get(i);
+            if (predicate.test(person)) {
+                batchMatches.add(person);
+            }
+        }
+        showAllMatches(searchGeneration, predicate);
+    }
+
+    /**
+     * Adds {@code batchMatches} to the persons shown for the search of {@code searchGeneration}, on the thread of the
+     * model executor, unless that search has been stopped.
+     * The first batch of a search replaces the persons shown before, so that they stay shown until then.
+     */
+    private void showMatches(long searchGeneration, List<Person> batchMatches) {
+        modelExecutor.execute(() -> {
+            if (generation != searchGeneration) {
+                return;
+            }
+            if (matchesGeneration != searchGeneration) {
+                // persons are immutable and cache their hash, so the snapshot's persons are found quickly
+                matches = new HashSet<>();
+                matchesGeneration = searchGeneration;
+            } else if (batchMatches.isEmpty()) {
+                return;
+            }
+            matches.addAll(batchMatches);
+            Set<Person> matchesSoFar = matches;
+            model.updateFilteredPersonList(matchesSoFar::contains);
+            isShowingMatches = true;
+        });
+    }
+
+    /**
+     * Shows the persons matching {@code predicate} for the search of {@code searchGeneration}, which has matched
+     * every person, on the thread of the model executor, unless that search has been stopped.
+     * The matches kept for showing the earlier batches are dropped.
+     */
+    private void showAllMatches(long searchGeneration, Predicate<Person> predicate) {
+        modelExecutor.execute(() -> {
+            if (generation != searchGeneration) {
+                return;
+            }
+            matches = null;
+            matchesGeneration = -1;
+            model.updateFilteredPersonList(predicate);
+            isShowingMatches = true;
+        });
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.logic;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableSet;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,6 +24,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Shows the persons that {@code commandText} would find while it is being typed, if it is a find command, without
+     * executing it. Persons are matched in the background, and the filtered list of persons is updated as they are
+     * found. A later call or the execution of a command stops the search.
+     */
+    void search(String commandText);
+
+    /**
+     * Sets the listener to be told of the progress and the result of commands that run in the background.
+     * While such a command runs, {@link #execute(String)} only accepts a command to cancel it.
+     */
+    void setTaskListener(TaskListener taskListener);
+
     /**
      * Returns the AddressBook.
      *
@@ -35,7 +47,8 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
-    ObservableSet<EventTag> getEventTagList();
+    /** Returns an unmodifiable view of the event tags, sorted by start date */
+    ObservableList<EventTag> getSortedEventTagList();
 
     /**
      * Returns the user prefs' address book file path.
@@ -3,12 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableSet;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -29,19 +32,50 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_TASK_STARTED = "%1$s\nEnter \"" + CancelCommand.COMMAND_WORD
+            + "\" to cancel it.";
+    public static final String MESSAGE_TASK_RUNNING = "Wait for the running import or export to finish, or enter \""
+            + CancelCommand.COMMAND_WORD + "\" to cancel it!";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor modelExecutor;
+    private final IncrementalSearch incrementalSearch;
+
+    private TaskListener taskListener;
+    private BackgroundTask runningTask;
+
+    // Version of the address book that was last handed to storage, used to skip saving after read-only commands.
+    private long savedAddressBookVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which runs every command to
+     * the end before returning from {@link #execute(String)}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which runs each
+     * {@code BackgroundCommand} on a thread of its own.
+     * The commands make their changes to the model, and their progress and results are reported, on the thread of
+     * {@code modelExecutor}, which is the thread that {@link #execute(String)} must be called on.
+     *
+     * @param modelExecutor if null, background commands and searches are run to the end on the calling thread instead
+     */
+    public LogicManager(Model model, Storage storage, Executor modelExecutor) {
         this.model = model;
         this.storage = storage;
+        this.modelExecutor = modelExecutor;
+        incrementalSearch = modelExecutor == null
+                ? new IncrementalSearch(model, Runnable::run, Runnable::run)
+                : new IncrementalSearch(model, createSearchExecutor(), modelExecutor);
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -50,17 +84,120 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        incrementalSearch.cancel();
+        if (runningTask != null) {
+            // the model may only be changed by the running command until it ends
+            if (!(command instanceof CancelCommand)) {
+                throw new CommandException(MESSAGE_TASK_RUNNING);
+            }
+            runningTask.cancel();
+            return new CommandResult(CancelCommand.MESSAGE_CANCELLING);
+        }
+        if (command instanceof BackgroundCommand && modelExecutor != null) {
+            return startTask((BackgroundCommand) command);
+        }
+
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException e) {
+            // a command may have changed the address book before failing, such as an import that failed part way
+            saveAddressBookIfChanged();
+            throw e;
+        }
+
+        saveAddressBookIfChanged();
+        return commandResult;
+    }
+
+    @Override
+    public void search(String commandText) {
+        if (runningTask != null) {
+            // the persons shown are left to the running command until it ends
+            return;
+        }
+        incrementalSearch.search(commandText);
+    }
+
+    /**
+     * Returns an executor that runs searches one at a time on a thread of its own.
+     */
+    private static Executor createSearchExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "incremental-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
+    /**
+     * Starts running {@code command} on a thread of its own.
+     */
+    private CommandResult startTask(BackgroundCommand command) {
+        runningTask = new BackgroundTask(command, model, modelExecutor, this::reportProgress, this::finishTask);
+        Thread thread = new Thread(runningTask, "background-command");
+        // the command is abandoned if the application exits while it runs, as its changes have not been saved
+        thread.setDaemon(true);
+        thread.start();
+        return new CommandResult(String.format(MESSAGE_TASK_STARTED, command.getStartedMessage()));
+    }
+
+    private void reportProgress(String progressMessage) {
+        if (taskListener != null) {
+            taskListener.onProgress(progressMessage);
+        }
+    }
+
+    /**
+     * Saves the changes made by the running command, which has ended, and reports its result.
+     */
+    private void finishTask(BackgroundTask task) {
+        assert task == runningTask;
+        runningTask = null;
+
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            try {
+                commandResult = task.getResult();
+            } finally {
+                // a command may have changed the address book before failing or being cancelled
+                saveAddressBookIfChanged();
+            }
+        } catch (CommandException e) {
+            logger.info("Background command failed: " + e.getMessage());
+            if (taskListener != null) {
+                taskListener.onFailure(e);
+            }
+            return;
+        }
+        if (taskListener != null) {
+            taskListener.onSuccess(commandResult);
+        }
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved.
+     * A snapshot is saved, so that storage writing in the background needs no copy of its own.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(model.getSnapshot());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        savedAddressBookVersion = addressBookVersion;
+    }
 
-        return commandResult;
+    @Override
+    public void setTaskListener(TaskListener taskListener) {
+        this.taskListener = taskListener;
     }
 
     @Override
@@ -74,8 +211,8 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableSet<EventTag> getEventTagList() {
-        return model.getEventTagList();
+    public ObservableList<EventTag> getSortedEventTagList() {
+        return model.getSortedEventTagList();
     }
 
     @Override
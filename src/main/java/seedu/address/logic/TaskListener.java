@@ -0,0 +1,26 @@
+package seedu.address.logic;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Listens to the progress and the result of a command running in the background.
+ * Its methods are called on the thread that the model is changed on.
+ */
+public interface TaskListener {
+
+    /**
+     * Called with a message of the progress of the running command.
+     */
+    void onProgress(String progressMessage);
+
+    /**
+     * Called with the result of the command once it has finished.
+     */
+    void onSuccess(CommandResult result);
+
+    /**
+     * Called once the command has failed or has been cancelled.
+     */
+    void onFailure(CommandException e);
+}
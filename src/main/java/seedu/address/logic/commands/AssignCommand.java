@@ -74,16 +74,16 @@ public class AssignCommand extends Command {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
             Person personToAssign = lastShownList.get(targetIndex.getZeroBased());
-            model.assign(personToAssign, targetTagList, targetEventTagList);
-            return new CommandResult(String.format(MESSAGE_ASSIGN_PERSON_SUCCESS, Messages.format(personToAssign)));
+            Person assignedPerson = model.assign(personToAssign, targetTagList, targetEventTagList);
+            return new CommandResult(String.format(MESSAGE_ASSIGN_PERSON_SUCCESS, Messages.format(assignedPerson)));
 
         } else if (targetName != dummyName) {
             Optional<Person> personToFind = lastShownList.stream().filter(person -> person.getName()
                     .toString().equals(targetName)).findFirst();
             if (personToFind.isPresent()) {
                 Person personToAssign = personToFind.get();
-                model.assign(personToAssign, targetTagList, targetEventTagList);
-                return new CommandResult(String.format(MESSAGE_ASSIGN_PERSON_SUCCESS, Messages.format(personToAssign)));
+                Person assignedPerson = model.assign(personToAssign, targetTagList, targetEventTagList);
+                return new CommandResult(String.format(MESSAGE_ASSIGN_PERSON_SUCCESS, Messages.format(assignedPerson)));
             } else {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_NAME);
             }
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Represents a command that can take long enough, such as reading or writing a large file, that it is run in the
+ * background so that the user interface stays responsive while it runs.
+ * Such a command only changes the model through {@link TaskContext#applyToModel(Runnable)}, and can be cancelled.
+ */
+public abstract class BackgroundCommand extends Command {
+
+    /**
+     * Executes the command to the end on the calling thread.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, TaskContext.SYNCHRONOUS);
+    }
+
+    /**
+     * Executes the command in {@code context}, which it reports its progress to and makes its changes to the model
+     * through.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution, or if the command was cancelled.
+     */
+    public abstract CommandResult execute(Model model, TaskContext context) throws CommandException;
+
+    /**
+     * Returns the message to show when the command starts running in the background.
+     */
+    public abstract String getStartedMessage();
+
+    /**
+     * Returns the message to show for the progress of the command.
+     *
+     * @param processedCount number of rows or contacts processed so far
+     * @param processedPerSecond average number of rows or contacts processed per second so far
+     */
+    public abstract String getProgressMessage(int processedCount, double processedPerSecond);
+}
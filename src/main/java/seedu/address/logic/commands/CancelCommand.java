@@ -0,0 +1,22 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Cancels the import or export running in the background.
+ * The running command is cancelled by the logic that runs it, so executing this command on its own means that
+ * nothing is running.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_CANCELLING = "Cancelling...";
+    public static final String MESSAGE_NOTHING_TO_CANCEL = "There is no import or export running to cancel!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_NOTHING_TO_CANCEL);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.AddressBook.DEFAULT_EVENT_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -45,7 +46,8 @@ public class DeventCommand extends Command {
         model.updateTagPersonList(et);
         model.deleteEventTag(et);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS_DELETE, et));
+        // the current event is cleared, so the default event is shown as selected, as for the list command
+        return new CommandResult(String.format(MESSAGE_SUCCESS_DELETE, et), DEFAULT_EVENT_TAG);
     }
 
     @Override
@@ -1,18 +1,25 @@
 package seedu.address.logic.commands;
 
-import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
-import static seedu.address.logic.commands.ImportExportSyntax.NUMBER_OF_FIELDS;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.export.CsvPersonExporter;
+import seedu.address.logic.export.EventSheetExporter;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.logic.export.PersonExporter;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.EventTag;
@@ -22,84 +29,213 @@ import seedu.address.model.tag.Tag;
 /**
  * Exports contacts from address book
  */
-public class ExportCommand extends Command {
+public class ExportCommand extends BackgroundCommand {
 
     public static final String COMMAND_WORD = "export";
-    public static final String MESSAGE_SUCCESS = "Contacts from address book have been exported!";
-    public static final String MESSAGE_FAILURE = "Something went wrong! Make sure export.csv is not open!";
-    public static final String EXPORT_PATH = "./export/export.csv";
-    private Set<EventTag> exported = new HashSet<>();
+    public static final String EXPORT_PATH_WITHOUT_EXTENSION = "./export/export.";
+    public static final String EXPORT_PATH = EXPORT_PATH_WITHOUT_EXTENSION + ExportFormat.CSV.getFileExtension();
+    public static final String EVENT_SHEET_PATH = "./export/events.csv";
 
-    @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        exportFile(model);
-        return new CommandResult(MESSAGE_SUCCESS);
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports contacts to a file, by default a csv file in the same format as the import command reads.\n"
+            + "Without a tag or an event, the contacts currently displayed are exported, otherwise all contacts "
+            + "with the tag and attending the event are exported.\n"
+            + "If path not specified, default path is: " + EXPORT_PATH_WITHOUT_EXTENSION + "FORMAT_EXTENSION\n"
+            + "Parameters: [f/FILE_PATH] [fmt/FORMAT] [c/COLUMN]... [t/TAG] [ev/EVENT] [es/EVENT_SHEET_PATH]\n"
+            + "Formats: csv, jsonl, vcard\n"
+            + "Columns: " + String.join(", ", FIELDS) + " (all by default)\n"
+            + "With es/, the events of the contacts are written once to a separate csv file, by default "
+            + EVENT_SHEET_PATH + ", and the contacts refer to them by name.\n"
+            + "Example: " + COMMAND_WORD + " f/./export/orientation.csv c/NAME c/EMAIL ev/orientation";
+
+    public static final String MESSAGE_SUCCESS = "%1$d contacts from address book have been exported to %2$s!";
+    public static final String MESSAGE_SUCCESS_WITH_EVENT_SHEET = "%1$d contacts from address book have been "
+            + "exported to %2$s, and their %3$d events to %4$s!";
+    public static final String MESSAGE_FAILURE = "Something went wrong! Make sure %1$s is not open!";
+    public static final String MESSAGE_INVALID_PATH = "The path %1$s is not valid!";
+    public static final String MESSAGE_STARTED = "Exporting contacts to %1$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting: %1$d contacts written (%2$.0f contacts/s)";
+    public static final String MESSAGE_CANCELLED = "Export cancelled! %1$s has been left as it was.";
+
+    private final String path;
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Tag tag;
+    private final Tag eventTag;
+    private final String eventSheetPath;
+
+    /**
+     * Creates an ExportCommand that exports all columns of the contacts currently displayed to {@code EXPORT_PATH}.
+     */
+    public ExportCommand() {
+        this("", ExportFormat.CSV, FIELDS, null, null);
     }
 
     /**
-     * Reads the current address book and exports to ./export/export.csv
-     *
-     * @param model as in execute()
-     * @throws CommandException in the case that the file cannot be written to
+     * @param path of the file to export to, or an empty string for {@code EXPORT_PATH_WITHOUT_EXTENSION} followed
+     *     by the file extension of the format
+     * @param format to write the contacts in
+     * @param columns fields from {@code ImportExportSyntax.FIELDS} to export, in the order they are to be written
+     * @param tag if not null, only contacts with this tag are exported
+     * @param eventTag if not null, only contacts attending the event with this name are exported
      */
-    private void exportFile(Model model) throws CommandException {
-        ObservableList<Person> list = model.getFilteredPersonList();
+    public ExportCommand(String path, ExportFormat format, List<String> columns, Tag tag, Tag eventTag) {
+        this(path, format, columns, tag, eventTag, null);
+    }
 
-        try {
-            File exportFile = new File(EXPORT_PATH);
-            FileWriter fw = new FileWriter(exportFile, StandardCharsets.UTF_8);
+    /**
+     * @param path of the file to export to, or an empty string for {@code EXPORT_PATH_WITHOUT_EXTENSION} followed
+     *     by the file extension of the format
+     * @param format to write the contacts in, which must be {@code ExportFormat.CSV} if there is an event sheet
+     * @param columns fields from {@code ImportExportSyntax.FIELDS} to export, in the order they are to be written
+     * @param tag if not null, only contacts with this tag are exported
+     * @param eventTag if not null, only contacts attending the event with this name are exported
+     * @param eventSheetPath if not null, the path of the file to export the events of the contacts to, or an empty
+     *     string for {@code EVENT_SHEET_PATH}
+     */
+    public ExportCommand(String path, ExportFormat format, List<String> columns, Tag tag, Tag eventTag,
+            String eventSheetPath) {
+        requireAllNonNull(path, format, columns);
+        assert !columns.isEmpty() && FIELDS.containsAll(columns);
+        assert eventSheetPath == null || format == ExportFormat.CSV;
+        this.path = path.isEmpty() ? EXPORT_PATH_WITHOUT_EXTENSION + format.getFileExtension() : path;
+        this.format = format;
+        this.columns = List.copyOf(columns);
+        this.tag = tag;
+        this.eventTag = eventTag;
+        this.eventSheetPath = eventSheetPath == null || !eventSheetPath.isEmpty() ? eventSheetPath : EVENT_SHEET_PATH;
+    }
 
-            for (int i = 0; i < NUMBER_OF_FIELDS; i++) {
-                fw.write(FIELDS.get(i));
-                if (i + 1 != NUMBER_OF_FIELDS) {
-                    fw.write(",");
-                }
-            }
-            fw.write("\n");
-
-            for (Person person : list) {
-                fw.write(person.getName().toString());
-                fw.write(",");
-                fw.write(person.getPhone().toString());
-                fw.write(",");
-                fw.write(person.getEmail().toString());
-                fw.write(",");
-                fw.write(person.getAddress().toString());
-                fw.write(",");
-
-                Set<EventTag> eTags = person.getEventTags();
-                StringBuilder eTagsString = new StringBuilder();
-                for (EventTag eTag : eTags) {
-                    if (exported.contains(eTag)) {
-                        eTagsString.append(eTag.tagName).append("|");
-                    } else {
-                        exported.add(eTag);
-                        eTagsString.append(eTag.getCodeFormat()).append("|");
+    @Override
+    public CommandResult execute(Model model, TaskContext context) throws CommandException {
+        requireAllNonNull(model, context);
+        Path filePath = toPath(path);
+        Path eventSheetFilePath = eventSheetPath == null ? null : toPath(eventSheetPath);
+
+        boolean isFiltered = tag != null || eventTag != null;
+        // the persons are written from a snapshot, so that the address book may change while they are written
+        String[] missingTagMessage = new String[1];
+        List<Person> persons = context.readFromModel(() -> {
+            missingTagMessage[0] = getMissingTagMessage(model);
+            return missingTagMessage[0] == null ? getPersonsToExport(model, isFiltered) : null;
+        });
+        if (missingTagMessage[0] != null) {
+            throw new CommandException(missingTagMessage[0]);
+        }
+        Map<String, EventTag> exportedEventTags = new LinkedHashMap<>();
+        int[] exportedCount = new int[1];
+        try {
+            // the file is only replaced once it has been written in full, so a failed export leaves it unchanged
+            FileUtil.writeAtomically(filePath, null, out -> {
+                try (PersonExporter exporter = eventSheetFilePath == null
+                        ? format.createExporter(out, columns)
+                        : new CsvPersonExporter(out, columns, false)) {
+                    for (Person person : persons) {
+                        if (context.isCancelled()) {
+                            throw new CancellationException();
+                        }
+                        if (!isFiltered || isMatching(person)) {
+                            exporter.write(person);
+                            context.reportProgress(++exportedCount[0]);
+                            for (EventTag t : person.getEventTags()) {
+                                exportedEventTags.putIfAbsent(t.tagName, t);
+                            }
+                        }
                     }
                 }
-                if (eTagsString.length() != 0) {
-                    eTagsString.deleteCharAt(eTagsString.length() - 1);
+                // the event sheet is written before the file of contacts replaces the old one, so that the contacts
+                // never refer to events missing from the event sheet
+                if (eventSheetFilePath != null) {
+                    writeEventSheet(eventSheetFilePath, exportedEventTags);
                 }
-                fw.write(eTagsString.toString());
-                fw.write(",");
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, path));
+        } catch (CancellationException e) {
+            throw new CommandException(String.format(MESSAGE_CANCELLED, path));
+        }
+        return new CommandResult(eventSheetFilePath == null
+                ? String.format(MESSAGE_SUCCESS, exportedCount[0], path)
+                : String.format(MESSAGE_SUCCESS_WITH_EVENT_SHEET, exportedCount[0], path, exportedEventTags.size(),
+                        eventSheetPath));
+    }
 
-                Set<Tag> tags = person.getTags();
-                StringBuilder tagsString = new StringBuilder();
-                for (Tag tag : tags) {
-                    tagsString.append(tag.tagName).append("|");
-                }
-                if (tagsString.length() != 0) {
-                    tagsString.deleteCharAt(tagsString.length() - 1);
+    /**
+     * Returns the message for the tag or event tag to filter by that is not in {@code model}, or null if there is none.
+     */
+    private String getMissingTagMessage(Model model) {
+        if (tag != null && !model.hasTag(tag)) {
+            return Messages.MESSAGE_INVALID_TAG;
+        }
+        if (eventTag != null && !model.hasEventTag(eventTag.tagName)) {
+            return SwitchCommand.MESSAGE_NO_EVENT_TAG;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a snapshot of the persons to export, before they are filtered by tag and event.
+     */
+    private static List<Person> getPersonsToExport(Model model, boolean isFiltered) {
+        List<Person> displayedPersons = model.getFilteredPersonList();
+        List<Person> allPersons = model.getSnapshot().getPersonList();
+        // when all persons are displayed, the snapshot is used as it is, so that persons not loaded yet are not
+        // loaded on the thread of the model just to copy them
+        return isFiltered || displayedPersons.size() == allPersons.size()
+                ? allPersons
+                : List.copyOf(displayedPersons);
+    }
+
+    private static Path toPath(String path) throws CommandException {
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PATH, path));
+        }
+    }
+
+    private static void writeEventSheet(Path eventSheetFilePath, Map<String, EventTag> eventTags) throws IOException {
+        FileUtil.writeAtomically(eventSheetFilePath, null, out -> {
+            try (EventSheetExporter exporter = new EventSheetExporter(out)) {
+                for (EventTag eventTag : eventTags.values()) {
+                    exporter.write(eventTag);
                 }
-                fw.write(tagsString.toString());
-                fw.write(",");
-                fw.write("\n");
             }
-            fw.close();
+        });
+    }
 
-        } catch (IOException e) {
-            throw new CommandException(MESSAGE_FAILURE);
+    @Override
+    public String getStartedMessage() {
+        return String.format(MESSAGE_STARTED, path);
+    }
+
+    @Override
+    public String getProgressMessage(int processedCount, double processedPerSecond) {
+        return String.format(MESSAGE_PROGRESS, processedCount, processedPerSecond);
+    }
+
+    private boolean isMatching(Person person) {
+        return (tag == null || person.getTags().stream().anyMatch(t -> t.hasName(tag.tagName)))
+                && (eventTag == null || person.getEventTags().stream().anyMatch(t -> t.hasName(eventTag.tagName)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
         }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand e = (ExportCommand) other;
+        return path.equals(e.path)
+                && format == e.format
+                && columns.equals(e.columns)
+                && Objects.equals(tag, e.tag)
+                && Objects.equals(eventTag, e.eventTag)
+                && Objects.equals(eventSheetPath, e.eventSheetPath);
     }
 }
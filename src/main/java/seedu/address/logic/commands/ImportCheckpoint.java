@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Position in an import file up to which the rows have been added to the address book, saved when an import fails
+ * partway through so that importing the same file again can continue from there.
+ * Guarantees: immutable.
+ */
+public class ImportCheckpoint {
+
+    private final long lastRowOffset;
+    private final long byteOffset;
+    private final int rowNumber;
+    private final int importedCount;
+    private final List<String> lastRow;
+
+    /**
+     * @param lastRowOffset byte offset in the file at which the last row added starts
+     * @param byteOffset byte offset in the file at which the last row added ends
+     * @param rowNumber 1-based number of the last row added, counting the row of fields
+     * @param importedCount number of persons added from the file up to and including the last row added
+     * @param lastRow values of the last row added, to check that the file has not been changed up to there
+     */
+    @JsonCreator
+    public ImportCheckpoint(@JsonProperty("lastRowOffset") long lastRowOffset,
+            @JsonProperty("byteOffset") long byteOffset, @JsonProperty("rowNumber") int rowNumber,
+            @JsonProperty("importedCount") int importedCount, @JsonProperty("lastRow") List<String> lastRow) {
+        requireAllNonNull(lastRow);
+        this.lastRowOffset = lastRowOffset;
+        this.byteOffset = byteOffset;
+        this.rowNumber = rowNumber;
+        this.importedCount = importedCount;
+        this.lastRow = List.copyOf(lastRow);
+    }
+
+    public long getLastRowOffset() {
+        return lastRowOffset;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public List<String> getLastRow() {
+        return lastRow;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCheckpoint)) {
+            return false;
+        }
+
+        ImportCheckpoint otherCheckpoint = (ImportCheckpoint) other;
+        return lastRowOffset == otherCheckpoint.lastRowOffset
+                && byteOffset == otherCheckpoint.byteOffset
+                && rowNumber == otherCheckpoint.rowNumber
+                && importedCount == otherCheckpoint.importedCount
+                && lastRow.equals(otherCheckpoint.lastRow);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastRowOffset, byteOffset, rowNumber, importedCount, lastRow);
+    }
+}
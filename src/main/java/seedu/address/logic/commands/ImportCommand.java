@@ -1,226 +1,595 @@
 package seedu.address.logic.commands;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.commands.ImportExportSyntax.EVENT_SHEET_FIELDS;
 import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
-import static seedu.address.logic.commands.ImportExportSyntax.NUMBER_OF_FIELDS;
-import static seedu.address.logic.commands.ImportExportSyntax.PREFIX_MAP;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.AddressBookParser;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.ImportRowParser;
+import seedu.address.logic.parser.ImportRowParser.ParsedRow;
+import seedu.address.logic.parser.exceptions.CsvParseException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * Imports contacts from csv
  */
-public class ImportCommand extends Command {
+public class ImportCommand extends BackgroundCommand {
 
     public static final String COMMAND_WORD = "import";
     public static final String MESSAGE_SUCCESS = "Contacts from csv have been added!";
     public static final String MESSAGE_FILE_NOT_FOUND = "File could not be found! Check import.csv exists at ./import";
     public static final String MESSAGE_FIELDS_FORMAT_ERROR = "An error occurred while parsing the csv! "
             + "Check the field values!";
-    public static final String MESSAGE_VALUES_FORMAT_ERROR = "An error occurred while adding persons to the csv!\n "
-            + "The values in the csv are converted to add command format\n"
+    public static final String MESSAGE_VALUES_FORMAT_ERROR = "An error occurred while adding persons from the csv!\n"
             + "Make sure the values match the correct format for the add command!\n"
-            + "The error with the add command occurred as follows:\n";
+            + "The error occurred as follows:\n";
     public static final String MESSAGE_EVENTS_FORMAT_ERROR = "An error occurred while parsing the EVENTS/TAGS portion! "
             + "Make sure the first occurrence values match the correct format for the add command!\n"
             + "(See UG for more details)\n"
             + "The error with the command occurred as follows:\n";
     public static final String DEFAULT_PATH = "./import/import.csv";
+    public static final String DEFAULT_EVENT_SHEET_PATH = "./import/events.csv";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Updates the Address book with contacts from the "
             + "csv file found at given path."
             + "If path not specified, default path is: " + DEFAULT_PATH + "\n"
-            + "Parameters: path to file (prefixed with f/)\n"
+            + "Parameters: path to file (prefixed with f/) [m/MODE] [es/EVENT_SHEET_PATH]\n"
+            + "Modes: add (default) adds all contacts, sync adds new contacts and updates changed ones, "
+            + "mirror also deletes contacts that are not in the file\n"
+            + "With es/, the events that the contacts refer to by name are first read from the event sheet, by "
+            + "default " + DEFAULT_EVENT_SHEET_PATH + "\n"
             + "Example: " + COMMAND_WORD + " f/" + DEFAULT_PATH + "\n"
-            + "Example: " + COMMAND_WORD + " f/";
+            + "Example: " + COMMAND_WORD + " f/ m/sync es/";
+
+    public static final String MESSAGE_FILE_READ_ERROR = "An error occurred while reading the csv: %1$s";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_VALUE_ERROR = "Row %1$d, column %2$d (%3$s): %4$s";
+    public static final String MESSAGE_DUPLICATE_ROW = "This person appears more than once in the csv";
+    public static final String MESSAGE_PARTIALLY_IMPORTED = "\nThe %1$d contacts before the error have been added.";
+    public static final String MESSAGE_RESUMABLE = "\nImport the same file again to continue after row %1$d.";
+    public static final String MESSAGE_PARTIALLY_SYNCED = "\nThe changes from the %1$d rows before the error have "
+            + "been made.";
+    public static final String MESSAGE_SYNC_SUCCESS = "Contacts from csv have been synced! %1$d added, %2$d updated, "
+            + "%3$d unchanged, %4$d deleted.";
+    public static final String MESSAGE_RESUMED = "Contacts from csv after row %1$d have been added, continuing the "
+            + "earlier import!";
+    public static final String MESSAGE_STARTED = "Importing contacts from %1$s...";
+    public static final String MESSAGE_PROGRESS = "Importing: %1$d rows processed (%2$.0f rows/s)";
+    public static final String MESSAGE_CANCELLED = "Import cancelled!";
+    public static final String MESSAGE_EVENT_SHEET_NOT_FOUND = "Event sheet could not be found! Check %1$s exists";
+    public static final String MESSAGE_EVENT_SHEET_FORMAT_ERROR = "An error occurred while parsing the event sheet! "
+            + "Check the field values!";
+    public static final String MESSAGE_EVENT_SHEET_VALUES_ERROR = "An error occurred while reading the events "
+            + "from the event sheet!\n"
+            + "Make sure the values match the correct format for the ctag command!\n"
+            + "The error occurred as follows:\n";
+
+    /** Suffix added to the path of an import file for the path of its checkpoint. */
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    /** Number of rows that are checked and then added to the model together. */
+    public static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
 
     private final String path;
-    private final List<String> personsToAdd = new ArrayList<>(); // To hold the person data from the csv
-    private final List<Command> commands = new ArrayList<>(); // Holds commands to assign and generate eventTags;
+    private final Mode mode;
+    private final String eventSheetPath;
 
     /**
      * @param path of the import.csv file containing contacts to import
      */
     public ImportCommand(String path) {
-        requireAllNonNull(path);
+        this(path, Mode.ADD);
+    }
+
+    /**
+     * @param path of the import.csv file containing contacts to import
+     * @param mode how the contacts are applied to the address book
+     */
+    public ImportCommand(String path, Mode mode) {
+        this(path, mode, null);
+    }
+
+    /**
+     * @param path of the import.csv file containing contacts to import
+     * @param mode how the contacts are applied to the address book
+     * @param eventSheetPath if not null, the path of the event sheet defining the events that the contacts refer to,
+     *     or an empty string for {@code DEFAULT_EVENT_SHEET_PATH}
+     */
+    public ImportCommand(String path, Mode mode, String eventSheetPath) {
+        requireAllNonNull(path, mode);
         this.path = (path.isEmpty()) ? DEFAULT_PATH : path;
+        this.mode = mode;
+        this.eventSheetPath = eventSheetPath == null || !eventSheetPath.isEmpty()
+                ? eventSheetPath
+                : DEFAULT_EVENT_SHEET_PATH;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-
-        try { // parse the csv file at the path w scanner
-            parse(model);
-            checkFields(personsToAdd.get(0));
-            personsToAdd.remove(0); // remove the fields
-            addPersons(model);
-            loadEventTags(model);
+    public CommandResult execute(Model model, TaskContext context) throws CommandException {
+        requireAllNonNull(model, context);
+        Path filePath;
+        try {
+            filePath = Paths.get(path);
+        } catch (InvalidPathException e) {
+            throw new CommandException(MESSAGE_FILE_NOT_FOUND);
+        }
+        Path checkpointPath = Paths.get(path + CHECKPOINT_SUFFIX);
+        // the parser only reads the event tags of a snapshot, as the model may only be read on the model thread
+        ImportRowParser rowParser = new ImportRowParser(context.readFromModel(model::getSnapshot), mode != Mode.ADD);
+        if (eventSheetPath != null) {
+            readEventSheet(rowParser);
+        }
+        // syncing the same file again leaves the rows already synced unchanged, so it has no need for checkpoints
+        ImportCheckpoint checkpoint = mode == Mode.ADD ? readCheckpoint(checkpointPath) : null;
+        ImportProgress progress;
 
-        } catch (FileNotFoundException e) {
+        // the file is read one row at a time, so that the size of the file does not affect the memory used
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            if (checkpoint != null && !isResumable(checkpoint, channel, rowParser, model, context)) {
+                checkpoint = null;
+            }
+            CsvReader reader;
+            if (checkpoint == null) {
+                channel.position(0);
+                reader = new CsvReader(newReader(channel));
+                checkFields(reader.readRow());
+            } else {
+                // the rows up to the checkpoint are skipped without being read
+                channel.position(checkpoint.getByteOffset());
+                reader = new CsvReader(newReader(channel), checkpoint.getRowNumber(), checkpoint.getByteOffset());
+            }
+            progress = new ImportProgress(checkpoint);
+            importRows(model, context, reader, rowParser, progress, checkpointPath);
+        } catch (NoSuchFileException e) {
             throw new CommandException(MESSAGE_FILE_NOT_FOUND);
-        } catch (IndexOutOfBoundsException e) {
-            throw new CommandException(MESSAGE_FIELDS_FORMAT_ERROR);
+        } catch (IOException | IllegalValueException e) {
+            throw readFailure(e);
+        }
+
+        if (mode == Mode.ADD) {
+            deleteCheckpoint(checkpointPath);
+            return new CommandResult(checkpoint == null
+                    ? MESSAGE_SUCCESS
+                    : String.format(MESSAGE_RESUMED, checkpoint.getRowNumber()));
+        }
+        int[] deletedCount = new int[1];
+        if (mode == Mode.MIRROR) {
+            context.applyToModel(() -> deletedCount[0] = deleteMissingPersons(model, progress.seenPersons));
+        }
+        return new CommandResult(String.format(MESSAGE_SYNC_SUCCESS, progress.insertedCount,
+                progress.updatedCount, progress.unchangedCount, deletedCount[0]));
+    }
+
+    /**
+     * Defines every event tag of the event sheet in {@code rowParser}, before any row of contacts is read, so that
+     * the rows can refer to the event tags by name in any order.
+     */
+    private void readEventSheet(ImportRowParser rowParser) throws CommandException {
+        Path sheetFilePath;
+        try {
+            sheetFilePath = Paths.get(eventSheetPath);
+        } catch (InvalidPathException e) {
+            throw new CommandException(String.format(MESSAGE_EVENT_SHEET_NOT_FOUND, eventSheetPath));
         }
 
-        return new CommandResult(MESSAGE_SUCCESS);
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(sheetFilePath, StandardCharsets.UTF_8))) {
+            if (!hasFields(reader.readRow(), EVENT_SHEET_FIELDS)) {
+                throw new CommandException(MESSAGE_EVENT_SHEET_FORMAT_ERROR);
+            }
+            for (List<String> row = reader.readRow(); row != null; row = reader.readRow()) {
+                try {
+                    rowParser.defineEventTag(row);
+                } catch (CsvParseException e) {
+                    throw new CommandException(MESSAGE_EVENT_SHEET_VALUES_ERROR
+                            + formatError(e, reader.getRowNumber(), EVENT_SHEET_FIELDS));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_EVENT_SHEET_NOT_FOUND, eventSheetPath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_READ_ERROR, e.getMessage()));
+        } catch (IllegalValueException e) {
+            throw new CommandException(MESSAGE_EVENT_SHEET_FORMAT_ERROR + "\n" + e.getMessage());
+        }
     }
 
     /**
-     * Parses the data in the csv into the given list
-     * Takes all the values and formats them into add command format
-     * e.g. John -> n/John
+     * Parses each of the remaining rows of {@code reader} into a person, and applies the persons to the model in
+     * batches of {@code BATCH_SIZE}. Each batch is only applied once all of its rows have been checked.
+     * If a batch cannot be added in {@code Mode.ADD}, or the import is cancelled, a checkpoint after the last batch
+     * added is saved to {@code checkpointPath}.
      *
+     * @param model reference to the model to apply the persons to
+     * @param context that the batches are applied to the model through
+     * @param reader reader of the csv file, positioned after the row of fields or after the checkpoint of
+     *     {@code progress}
      */
-    private void parse(Model model) throws FileNotFoundException, IndexOutOfBoundsException, CommandException {
-        StringBuilder currRow = new StringBuilder(); // To hold the current row data
-        Scanner sc = new Scanner(new File(path));
-        sc.useDelimiter(",|\r?\n");
-        int count = 0; // holds an idx to keep track of the current field
-        String personName = "";
-        Boolean fieldsParsed = false;
+    private void importRows(Model model, TaskContext context, CsvReader reader, ImportRowParser rowParser,
+            ImportProgress progress, Path checkpointPath) throws CommandException {
+        List<List<String>> rows = new ArrayList<>(BATCH_SIZE);
 
-        while (sc.hasNext()) {
-            String next = sc.next();
-            if (count == 0) {
-                personName = next;
+        try {
+            while (true) {
+                if (context.isCancelled()) {
+                    throw new CommandException(withProgress(MESSAGE_CANCELLED, progress));
+                }
+                int firstRowNumber = reader.getRowNumber() + 1;
+                long lastRowOffset = reader.getByteOffset();
+                rows.clear();
+                while (rows.size() < BATCH_SIZE) {
+                    long rowOffset = reader.getByteOffset();
+                    List<String> row = reader.readRow();
+                    if (row == null) {
+                        break;
+                    }
+                    lastRowOffset = rowOffset;
+                    rows.add(row);
+                }
+                if (rows.isEmpty()) {
+                    return;
+                }
+
+                List<Person> batch = new ArrayList<>(rows.size());
+                CommandException parseFailure = parseBatch(rowParser, rows, firstRowNumber, batch, progress);
+                // the batch is checked against the model and applied on the model thread, as one change
+                int[] conflictIndex = new int[1];
+                context.applyToModel(() -> {
+                    conflictIndex[0] = findConflict(model, batch, progress);
+                    if (conflictIndex[0] == -1 && parseFailure == null) {
+                        applyBatch(model, batch, progress);
+                    }
+                });
+                if (conflictIndex[0] != -1) {
+                    String message = mode == Mode.ADD ? AddCommand.MESSAGE_DUPLICATE_PERSON : MESSAGE_DUPLICATE_ROW;
+                    throw importFailure(new CsvParseException(ImportRowParser.NAME_INDEX, message),
+                            firstRowNumber + conflictIndex[0], progress);
+                }
+                if (parseFailure != null) {
+                    throw parseFailure;
+                }
+                context.reportProgress(progress.rowCount);
+                if (mode == Mode.ADD) {
+                    progress.checkpoint = new ImportCheckpoint(lastRowOffset, reader.getByteOffset(),
+                            reader.getRowNumber(), progress.insertedCount, rows.get(rows.size() - 1));
+                }
+            }
+        } catch (CommandException | IOException | IllegalValueException e) {
+            CommandException failure = e instanceof CommandException ? (CommandException) e : readFailure(e);
+            if (progress.checkpoint == null || !saveCheckpoint(progress.checkpoint, checkpointPath)) {
+                throw failure;
             }
+            throw new CommandException(failure.getMessage()
+                    + String.format(MESSAGE_RESUMABLE, progress.checkpoint.getRowNumber()));
+        }
+    }
 
-            if (!next.isEmpty()) { // append the field in the correct format if present
-                String formatted = formatFieldValue(next, FIELDS.get(count), personName, fieldsParsed);
-                currRow.append(formatted);
+    /**
+     * Returns the index of the first person of {@code batch} that conflicts with the model, or -1 if there is none.
+     * In {@code Mode.ADD}, a person conflicts if it is already in the model. Otherwise, it conflicts if a row of an
+     * earlier batch was of the same person.
+     * Must be called on the model thread.
+     */
+    private int findConflict(Model model, List<Person> batch, ImportProgress progress) {
+        for (int i = 0; i < batch.size(); i++) {
+            Person existingPerson = model.getPerson(batch.get(i).getName());
+            if (existingPerson != null && (mode == Mode.ADD || progress.seenPersons.contains(existingPerson))) {
+                return i;
             }
+        }
+        return -1;
+    }
 
-            count += 1;
+    /**
+     * Applies the persons of a batch of rows to the model.
+     * In {@code Mode.ADD}, the persons are all added. Otherwise, only the persons not in the model yet are added, and
+     * only the persons in the model that differ from those of the rows are updated. The persons of the rows are then
+     * marked as seen.
+     * Must be called on the model thread.
+     */
+    private void applyBatch(Model model, List<Person> batch, ImportProgress progress) {
+        progress.rowCount += batch.size();
+        if (mode == Mode.ADD) {
+            model.addPersons(batch);
+            progress.insertedCount += batch.size();
+            return;
+        }
 
-            if (count == NUMBER_OF_FIELDS) { // add the person data to the list once parsed
-                currRow.deleteCharAt(currRow.length() - 1); // remove trailing " "
-                personsToAdd.add(currRow.toString());
-                currRow = new StringBuilder();
-                count = 0;
-                fieldsParsed = true;
+        List<Person> insertedPersons = new ArrayList<>();
+        List<Person> targets = new ArrayList<>();
+        List<Person> updatedPersons = new ArrayList<>();
+        for (Person person : batch) {
+            Person existingPerson = model.getPerson(person.getName());
+            if (existingPerson == null) {
+                insertedPersons.add(person);
+            } else if (existingPerson.equals(person)) {
+                progress.unchangedCount++;
+                progress.seenPersons.add(existingPerson);
+            } else {
+                targets.add(existingPerson);
+                updatedPersons.add(person);
             }
         }
-        sc.close();
+        if (!insertedPersons.isEmpty()) {
+            model.addPersons(insertedPersons);
+        }
+        if (!targets.isEmpty()) {
+            model.updatePersons(targets, updatedPersons);
+        }
+        progress.insertedCount += insertedPersons.size();
+        progress.updatedCount += updatedPersons.size();
+        progress.seenPersons.addAll(insertedPersons);
+        progress.seenPersons.addAll(updatedPersons);
     }
 
     /**
-     * Formats the given data field into proper command format
-     * e.g. John -> n/John
+     * Deletes the persons in the model that are not in {@code seenPersons}.
+     * Must be called on the model thread.
      *
-     * @param fieldValue the value to be formatted
-     * @param field the field the value belongs to
-     * @param personName holds the current persons name
-     * @param fieldsParsed checks for whether fields are being parsed or not
-     * @return the given field value formatted into command format
+     * @return the number of persons deleted
      */
-    private String formatFieldValue(String fieldValue, String field, String personName, Boolean fieldsParsed)
-            throws CommandException {
-        final String rmvChar = "\uFEFF";
-        if (fieldValue.startsWith(rmvChar)) { // to remove extra potential characters added due to csv format
-            fieldValue = fieldValue.substring(1);
+    private static int deleteMissingPersons(Model model, Set<Person> seenPersons) {
+        List<Person> missingPersons = new ArrayList<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (!seenPersons.contains(person)) {
+                missingPersons.add(person);
+            }
         }
+        if (!missingPersons.isEmpty()) {
+            model.deletePersons(missingPersons);
+        }
+        return missingPersons.size();
+    }
 
-        if (field.equalsIgnoreCase("EVENTS") && fieldsParsed) {
-            String[] eTags = fieldValue.split("\\|");
-            for (String eTag : eTags) {
-                handleEventTag(eTag, personName);
+    /**
+     * Returns true if the file read through {@code channel} still has the last row added before {@code checkpoint}
+     * was saved, at the same place, and the person of that row is still in the model.
+     */
+    private static boolean isResumable(ImportCheckpoint checkpoint, SeekableByteChannel channel,
+            ImportRowParser rowParser, Model model, TaskContext context) {
+        try {
+            channel.position(checkpoint.getLastRowOffset());
+            CsvReader reader = new CsvReader(newReader(channel), checkpoint.getRowNumber() - 1,
+                    checkpoint.getLastRowOffset());
+            List<String> lastRow = reader.readRow();
+            if (!checkpoint.getLastRow().equals(lastRow) || reader.getByteOffset() != checkpoint.getByteOffset()) {
+                return false;
             }
-            return "";
+            Name lastName = rowParser.parseValues(lastRow).getName();
+            return context.readFromModel(() -> model.getPerson(lastName) != null);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Import checkpoint does not match the file, importing from the first row: " + e);
+            return false;
         }
+    }
 
-        String prefix = PREFIX_MAP.get(field);
-        if (field.equalsIgnoreCase("TAGS") && fieldsParsed) { // handle case of multiple tags in field
-            String[] tags = fieldValue.split("\\|");
-            StringBuilder tagString = new StringBuilder();
-            for (String tag : tags) {
-                tagString.append(prefix).append(tag).append(" ");
-            }
-            return tagString.toString();
+    private static Reader newReader(SeekableByteChannel channel) {
+        return new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8);
+    }
+
+    private static ImportCheckpoint readCheckpoint(Path checkpointPath) {
+        try {
+            return JsonUtil.readJsonFile(checkpointPath, ImportCheckpoint.class).orElse(null);
+        } catch (DataLoadingException e) {
+            logger.warning("Import checkpoint could not be read, importing from the first row: " + e);
+            return null;
+        }
+    }
+
+    private static boolean saveCheckpoint(ImportCheckpoint checkpoint, Path checkpointPath) {
+        try {
+            JsonUtil.saveJsonFile(checkpoint, checkpointPath);
+            return true;
+        } catch (IOException e) {
+            logger.warning("Import checkpoint could not be saved: " + e);
+            return false;
+        }
+    }
+
+    private static void deleteCheckpoint(Path checkpointPath) {
+        try {
+            Files.deleteIfExists(checkpointPath);
+        } catch (IOException e) {
+            logger.warning("Import checkpoint could not be deleted: " + e);
         }
+    }
 
-        return prefix + fieldValue + " ";
+    private static CommandException readFailure(Exception e) {
+        assert e instanceof IOException || e instanceof IllegalValueException;
+        return e instanceof IOException
+                ? new CommandException(String.format(MESSAGE_FILE_READ_ERROR, e.getMessage()))
+                : new CommandException(MESSAGE_FIELDS_FORMAT_ERROR + "\n" + e.getMessage());
     }
 
     /**
-     * Manages the eventTags to create and assign
+     * Parses the given rows into persons, adding them to {@code batch}, up to the first row that cannot be parsed or
+     * is of the same person as an earlier row of the batch.
+     * The values of the rows are parsed in parallel, as they do not depend on each other. The event tags that the rows
+     * refer to are then looked up in the order of the rows, so that an event tag is defined before it is referred to.
+     * The model is not read, so that the rows can be parsed off the model thread.
      *
-     * @param details holds the eventTag details
+     * @param firstRowNumber 1-based number of the first of the rows in the csv file
+     * @param progress progress of the import through the rows before these rows
+     * @return the failure for the first row that could not be parsed, or null if every row was parsed
      */
-    private void handleEventTag(String details, String personName) throws CommandException {
-        if (!details.equals("N/A") && !details.equalsIgnoreCase("EVENTS")) {
+    private CommandException parseBatch(ImportRowParser rowParser, List<List<String>> rows, int firstRowNumber,
+            List<Person> batch, ImportProgress progress) {
+        ParsedRow[] parsedRows = new ParsedRow[rows.size()];
+        CsvParseException[] errors = new CsvParseException[rows.size()];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
             try {
-                AddressBookParser addressBookParser = new AddressBookParser();
-                if (details.trim().split(" ").length != 1) { // case where event is defined
-                    commands.add(addressBookParser.parseCommand("ctag " + details));
-                    String eventName = details.trim().split(" ")[0].substring(2);
-                    commands.add(addressBookParser.parseCommand("assign " + personName + "t/" + eventName));
-                } else { // case where only event name is given
-                    commands.add(addressBookParser.parseCommand("assign " + personName + "t/E-" + details));
-                }
-            } catch (ParseException e) {
-                throw new CommandException(MESSAGE_EVENTS_FORMAT_ERROR + e.getMessage());
+                parsedRows[i] = rowParser.parseValues(rows.get(i));
+            } catch (CsvParseException e) {
+                errors[i] = e;
+            }
+        });
+
+        Set<Name> batchNames = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int rowNumber = firstRowNumber + i;
+            if (errors[i] != null) {
+                return importFailure(errors[i], rowNumber, progress);
+            }
+
+            Person person;
+            try {
+                person = rowParser.resolve(parsedRows[i]);
+            } catch (CsvParseException e) {
+                return importFailure(e, rowNumber, progress);
+            }
+            if (!batchNames.add(person.getName())) {
+                return importFailure(new CsvParseException(ImportRowParser.NAME_INDEX, MESSAGE_DUPLICATE_ROW),
+                        rowNumber, progress);
             }
+            batch.add(person);
         }
+        return null;
     }
 
-    private void loadEventTags(Model model) throws CommandException {
-        try {
-            AddressBookParser addressBookParser = new AddressBookParser();
-            // access model and add/assign events into address book
-            for (Command command : commands) {
-                command.execute(model);
-            }
-        } catch (CommandException e) {
-            throw new CommandException(MESSAGE_EVENTS_FORMAT_ERROR + e.getMessage());
+    private CommandException importFailure(CsvParseException e, int rowNumber, ImportProgress progress) {
+        int columnIndex = e.getColumnIndex();
+        String message = columnIndex == ImportRowParser.EVENTS_INDEX
+                ? MESSAGE_EVENTS_FORMAT_ERROR
+                : MESSAGE_VALUES_FORMAT_ERROR;
+        return new CommandException(withProgress(message + formatError(e, rowNumber, FIELDS), progress));
+    }
+
+    private static String formatError(CsvParseException e, int rowNumber, List<String> fields) {
+        int columnIndex = e.getColumnIndex();
+        return columnIndex == CsvParseException.WHOLE_ROW
+                ? String.format(MESSAGE_ROW_ERROR, rowNumber, e.getMessage())
+                : String.format(MESSAGE_VALUE_ERROR, rowNumber, columnIndex + 1, fields.get(columnIndex),
+                        e.getMessage());
+    }
+
+    /**
+     * Returns {@code message} followed by what has been applied to the address book so far, if anything.
+     */
+    private String withProgress(String message, ImportProgress progress) {
+        if (mode == Mode.ADD && progress.insertedCount > 0) {
+            return message + String.format(MESSAGE_PARTIALLY_IMPORTED, progress.insertedCount);
+        } else if (mode != Mode.ADD && progress.rowCount > 0) {
+            return message + String.format(MESSAGE_PARTIALLY_SYNCED, progress.rowCount);
         }
+        return message;
     }
 
     /**
-     * Returns True if given String matches the number and order of fields specified in FIELDS
+     * Checks that the given row matches the number and order of fields specified in FIELDS
      *
-     * @param fieldString String parsed from the first row of the csv file
+     * @param fieldRow the first row of the csv file, or null if the file is empty
      */
-    private void checkFields(String fieldString) throws CommandException {
-        StringBuilder fields = new StringBuilder();
-        for (String field: FIELDS) {
-            fields.append(PREFIX_MAP.get(field));
-            fields.append(field).append(" ");
-        }
-        fields.deleteCharAt(fields.length() - 1); // adjust for extra " "
-        if (!fieldString.equalsIgnoreCase(fields.toString())) {
+    private void checkFields(List<String> fieldRow) throws CommandException {
+        if (!hasFields(fieldRow, FIELDS)) {
             throw new CommandException(MESSAGE_FIELDS_FORMAT_ERROR);
         }
     }
 
     /**
-     * Adds the person data from the list to the addressbook
-     * Simulates the work of AddressBookParser
-     *
-     * @param model reference to the model to add the data into
+     * Returns true if {@code fieldRow} starts with {@code fields}, in any case.
      */
-    private void addPersons(Model model) throws CommandException {
-        try {
-            AddressBookParser addressBookParser = new AddressBookParser();
-            // access model and add people into address book
-            for (String person : personsToAdd) {
-                String commandText = "add " + person;
-                Command command = addressBookParser.parseCommand(commandText);
-                command.execute(model);
-            }
-        } catch (CommandException | ParseException e) {
-            throw new CommandException(MESSAGE_VALUES_FORMAT_ERROR);
+    private static boolean hasFields(List<String> fieldRow, List<String> fields) {
+        if (fieldRow == null || fieldRow.size() < fields.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (!fieldRow.get(i).trim().equalsIgnoreCase(fields.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getStartedMessage() {
+        return String.format(MESSAGE_STARTED, path);
+    }
+
+    @Override
+    public String getProgressMessage(int processedCount, double processedPerSecond) {
+        return String.format(MESSAGE_PROGRESS, processedCount, processedPerSecond);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return path.equals(otherImportCommand.path)
+                && mode == otherImportCommand.mode
+                && Objects.equals(eventSheetPath, otherImportCommand.eventSheetPath);
+    }
+
+    /**
+     * How the rows of an import file are applied to the address book.
+     */
+    public enum Mode {
+        /** Adds the person of every row. No row may be of a person already in the address book. */
+        ADD,
+        /** Adds the persons of rows not in the address book yet, and updates those that differ from their rows. */
+        SYNC,
+        /** Syncs as {@code SYNC} does, and also deletes the persons that are not in the file. */
+        MIRROR
+    }
+
+    /**
+     * Progress of an import through the rows of a file.
+     */
+    private static class ImportProgress {
+        // persons of the model that the rows so far were of, when not in Mode.ADD; only used on the model thread
+        private final Set<Person> seenPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int rowCount;
+        private int insertedCount;
+        private int updatedCount;
+        private int unchangedCount;
+        private ImportCheckpoint checkpoint;
+
+        /**
+         * Creates the progress of an import that continues from {@code checkpoint}, or that starts from the first
+         * row if {@code checkpoint} is null.
+         */
+        private ImportProgress(ImportCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            if (checkpoint != null) {
+                insertedCount = checkpoint.getImportedCount();
+            }
         }
     }
 }
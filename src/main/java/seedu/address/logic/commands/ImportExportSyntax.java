@@ -12,6 +12,11 @@ public class ImportExportSyntax {
     ); // TO hold the fields present in the csv
     public static final int NUMBER_OF_FIELDS = FIELDS.size();
 
+    public static final List<String> EVENT_SHEET_FIELDS = List.of(
+            "EVENT", "DESCRIPTION", "START", "END"
+    ); // To hold the fields present in the event sheet, which defines the events that contacts refer to by name
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
     public static final Map<String, String> PREFIX_MAP = Map.of(
             "NAME", "n/",
             "NUMBER", "p/",
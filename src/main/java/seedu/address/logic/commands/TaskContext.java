@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Context that a {@code BackgroundCommand} executes in, through which it reports its progress, learns whether it
+ * has been cancelled and makes its changes to the model.
+ */
+public interface TaskContext {
+
+    /**
+     * Context of a command that runs to the end on the thread that it is executed on, which is never cancelled.
+     */
+    TaskContext SYNCHRONOUS = new TaskContext() {
+        @Override
+        public void reportProgress(int processedCount) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void applyToModel(Runnable change) {
+            change.run();
+        }
+    };
+
+    /**
+     * Reports that {@code processedCount} rows or contacts have been processed so far.
+     * This is cheap enough to be called for every row or contact.
+     */
+    void reportProgress(int processedCount);
+
+    /**
+     * Returns true if the command has been asked to stop. The command should then stop at the next point where it
+     * can stop without leaving the model or its files in an inconsistent state.
+     */
+    boolean isCancelled();
+
+    /**
+     * Makes {@code change} to the model on the thread that the model may be changed on, and waits for it to be made.
+     * Changes should be made in batches, as each call may have to wait for that thread.
+     */
+    void applyToModel(Runnable change);
+
+    /**
+     * Returns the result of {@code read} called on the thread that the model may be changed on, such as a snapshot
+     * of the model that can then be read on the calling thread.
+     */
+    default <T> T readFromModel(Supplier<T> read) {
+        AtomicReference<T> result = new AtomicReference<>();
+        applyToModel(() -> result.set(read.get()));
+        return result.get();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports persons as comma-separated values, in the same layout as the import command reads: a row with the names
+ * of the columns, followed by one row per person.
+ * The first time an event tag is written, its details are written in full, so that the file can be imported, unless
+ * the event tags are defined in an event sheet, in which case they are only ever written by name.
+ */
+public class CsvPersonExporter implements PersonExporter {
+
+    private final CsvWriter writer;
+    private final List<String> columns;
+    private final boolean definesEventTags;
+    private final Set<String> exportedEventTagNames = new HashSet<>();
+    private final StringBuilder tagsString = new StringBuilder();
+
+    /**
+     * Creates an exporter writing the {@code columns} of each person to {@code out}, starting with the row of
+     * column names.
+     */
+    public CsvPersonExporter(OutputStream out, List<String> columns) throws IOException {
+        this(out, columns, true);
+    }
+
+    /**
+     * Creates an exporter writing the {@code columns} of each person to {@code out}, starting with the row of
+     * column names.
+     *
+     * @param definesEventTags if false, event tags are written by name only, to be defined in an event sheet
+     */
+    public CsvPersonExporter(OutputStream out, List<String> columns, boolean definesEventTags) throws IOException {
+        this.writer = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.columns = List.copyOf(columns);
+        this.definesEventTags = definesEventTags;
+        writer.writeRow(columns);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        for (String column : columns) {
+            writer.writeValue(getValue(person, column));
+        }
+        writer.endRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Returns the value of the field {@code column} of {@code person}, reusing {@code tagsString} to join tags.
+     */
+    private String getValue(Person person, String column) {
+        switch (column) {
+        case "NAME":
+            return person.getName().toString();
+        case "NUMBER":
+            return person.getPhone().toString();
+        case "EMAIL":
+            return person.getEmail().toString();
+        case "ADDRESS":
+            return person.getAddress().toString();
+        case "EVENTS":
+            tagsString.setLength(0);
+            for (EventTag eTag : person.getEventTags()) {
+                if (tagsString.length() != 0) {
+                    tagsString.append("|");
+                }
+                tagsString.append(definesEventTags && exportedEventTagNames.add(eTag.tagName)
+                        ? eTag.getCodeFormat()
+                        : eTag.tagName);
+            }
+            return tagsString.toString();
+        case "TAGS":
+            tagsString.setLength(0);
+            for (Tag t : person.getTags()) {
+                if (tagsString.length() != 0) {
+                    tagsString.append("|");
+                }
+                tagsString.append(t.tagName);
+            }
+            return tagsString.toString();
+        default:
+            throw new AssertionError("Unknown column: " + column);
+        }
+    }
+}
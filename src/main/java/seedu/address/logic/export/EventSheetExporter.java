@@ -0,0 +1,50 @@
+package seedu.address.logic.export;
+
+import static seedu.address.logic.commands.ImportExportSyntax.DATE_TIME_PATTERN;
+import static seedu.address.logic.commands.ImportExportSyntax.EVENT_SHEET_FIELDS;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.model.tag.EventTag;
+
+/**
+ * Exports event tags as an event sheet: a row with the names of the columns of
+ * {@code ImportExportSyntax.EVENT_SHEET_FIELDS}, followed by one row per event tag.
+ * A csv file of contacts exported alongside it refers to the event tags by name only.
+ */
+public class EventSheetExporter implements Closeable {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    private final CsvWriter writer;
+
+    /**
+     * Creates an exporter writing event tags to {@code out}, starting with the row of column names.
+     */
+    public EventSheetExporter(OutputStream out) throws IOException {
+        this.writer = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.writeRow(EVENT_SHEET_FIELDS);
+    }
+
+    /**
+     * Writes the row of {@code eventTag}.
+     */
+    public void write(EventTag eventTag) throws IOException {
+        writer.writeValue(eventTag.tagName);
+        writer.writeValue(eventTag.description);
+        writer.writeValue(eventTag.startDate.format(DATE_TIME_FORMATTER));
+        writer.writeValue(eventTag.endDate.format(DATE_TIME_FORMATTER));
+        writer.endRow();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
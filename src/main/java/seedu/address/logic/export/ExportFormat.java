@@ -0,0 +1,62 @@
+package seedu.address.logic.export;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Formats that persons can be exported in.
+ */
+public enum ExportFormat {
+    /** Comma-separated values, in the same layout as the import command reads. */
+    CSV("csv"),
+    /** JSON Lines, with one JSON object per person. */
+    JSONL("jsonl"),
+    /** vCard 4.0, with one card per person. */
+    VCARD("vcf");
+
+    private final String fileExtension;
+
+    ExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns a new exporter writing persons in this format to {@code out}.
+     *
+     * @param columns fields from {@code ImportExportSyntax.FIELDS} to export, in the order they are to be written
+     */
+    public PersonExporter createExporter(OutputStream out, List<String> columns) throws IOException {
+        requireAllNonNull(out, columns);
+        switch (this) {
+        case CSV:
+            return new CsvPersonExporter(out, columns);
+        case JSONL:
+            return new JsonLinesPersonExporter(out, columns);
+        case VCARD:
+            return new VCardPersonExporter(out, columns);
+        default:
+            throw new AssertionError("Unknown format: " + this);
+        }
+    }
+
+    /**
+     * Returns the format with the name {@code name}, in any case.
+     */
+    public static Optional<ExportFormat> fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports persons as JSON Lines: one JSON object per person, on a line of its own.
+ * The keys of each object are the names of the exported columns in lower case. Events are written in full for every
+ * person, so that each line can be read on its own.
+ */
+public class JsonLinesPersonExporter implements PersonExporter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final JsonGenerator generator;
+    private final List<String> columns;
+    private final List<String> keys;
+
+    /**
+     * Creates an exporter writing the {@code columns} of each person to {@code out}.
+     */
+    public JsonLinesPersonExporter(OutputStream out, List<String> columns) throws IOException {
+        this.generator = JsonUtil.createCompactJsonGenerator(out);
+        this.columns = List.copyOf(columns);
+        this.keys = columns.stream().map(column -> column.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeFieldName(keys.get(i));
+            writeValue(person, columns.get(i));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeValue(Person person, String column) throws IOException {
+        switch (column) {
+        case "NAME":
+            generator.writeString(person.getName().toString());
+            break;
+        case "NUMBER":
+            generator.writeString(person.getPhone().toString());
+            break;
+        case "EMAIL":
+            generator.writeString(person.getEmail().toString());
+            break;
+        case "ADDRESS":
+            generator.writeString(person.getAddress().toString());
+            break;
+        case "EVENTS":
+            generator.writeStartArray();
+            for (EventTag eTag : person.getEventTags()) {
+                generator.writeStartObject();
+                generator.writeStringField("name", eTag.tagName);
+                generator.writeStringField("description", eTag.description);
+                generator.writeStringField("start", eTag.startDate.format(DATE_FORMATTER));
+                generator.writeStringField("end", eTag.endDate.format(DATE_FORMATTER));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            break;
+        case "TAGS":
+            generator.writeStartArray();
+            for (Tag t : person.getTags()) {
+                generator.writeString(t.tagName);
+            }
+            generator.writeEndArray();
+            break;
+        default:
+            throw new AssertionError("Unknown column: " + column);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.logic.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to an export, one person at a time, so that an export of any size never has to be built up in
+ * memory. Anything that has to come before the first person is written when the exporter is created.
+ */
+public interface PersonExporter extends Closeable {
+
+    /**
+     * Writes {@code person} after the persons written before.
+     */
+    void write(Person person) throws IOException;
+
+    /**
+     * Writes anything that has to come after the last person, flushes the export and closes its output.
+     */
+    @Override
+    void close() throws IOException;
+}
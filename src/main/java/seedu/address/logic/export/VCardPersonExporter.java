@@ -0,0 +1,158 @@
+package seedu.address.logic.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports persons as vCards, as described in RFC 6350, with one card per person.
+ * Names are always written, as every card must have one. Addresses are written as the street of the address,
+ * tags as categories and the names of events as {@code X-EVENT} properties.
+ * Lines end with CRLF, and lines longer than 75 octets are folded.
+ */
+public class VCardPersonExporter implements PersonExporter {
+
+    private static final String LINE_BREAK = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+    private final List<String> columns;
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * Creates an exporter writing the {@code columns} of each person to {@code out}.
+     */
+    public VCardPersonExporter(OutputStream out, List<String> columns) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CsvWriter.BUFFER_SIZE);
+        this.columns = List.copyOf(columns);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        writeLine("BEGIN:VCARD");
+        writeLine("VERSION:4.0");
+        line.setLength(0);
+        line.append("FN:");
+        appendEscaped(person.getName().toString());
+        writeLine(line);
+
+        for (String column : columns) {
+            writeProperty(person, column);
+        }
+        writeLine("END:VCARD");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeProperty(Person person, String column) throws IOException {
+        line.setLength(0);
+        switch (column) {
+        case "NAME":
+            // already written as the formatted name
+            return;
+        case "NUMBER":
+            line.append("TEL:");
+            appendEscaped(person.getPhone().toString());
+            break;
+        case "EMAIL":
+            line.append("EMAIL:");
+            appendEscaped(person.getEmail().toString());
+            break;
+        case "ADDRESS":
+            line.append("ADR:;;");
+            appendEscaped(person.getAddress().toString());
+            line.append(";;;;");
+            break;
+        case "EVENTS":
+            for (EventTag eTag : person.getEventTags()) {
+                line.setLength(0);
+                line.append("X-EVENT:");
+                appendEscaped(eTag.tagName);
+                writeLine(line);
+            }
+            return;
+        case "TAGS":
+            if (person.getTags().isEmpty()) {
+                return;
+            }
+            line.append("CATEGORIES:");
+            boolean isFirstTag = true;
+            for (Tag t : person.getTags()) {
+                if (!isFirstTag) {
+                    line.append(',');
+                }
+                appendEscaped(t.tagName);
+                isFirstTag = false;
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown column: " + column);
+        }
+        writeLine(line);
+    }
+
+    /**
+     * Appends {@code value} to the current line as a text value, with backslashes, commas, semicolons and line
+     * breaks escaped.
+     */
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\':
+            case ',':
+            case ';':
+                line.append('\\').append(c);
+                break;
+            case '\r':
+                if (i + 1 < value.length() && value.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                line.append("\\n");
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            default:
+                line.append(c);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code contentLine}, folding it into lines of at most {@code MAX_LINE_OCTETS} octets in UTF-8 that
+     * continue with a space, without splitting characters.
+     */
+    private void writeLine(CharSequence contentLine) throws IOException {
+        int lineStart = 0;
+        int lineOctets = 0;
+        for (int i = 0; i < contentLine.length(); i++) {
+            char c = contentLine.charAt(i);
+            boolean isSurrogatePair = Character.isHighSurrogate(c) && i + 1 < contentLine.length()
+                    && Character.isLowSurrogate(contentLine.charAt(i + 1));
+            int octets = isSurrogatePair ? 4 : c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                writer.append(contentLine, lineStart, i).append(LINE_BREAK).append(' ');
+                lineStart = i;
+                lineOctets = 1;
+            }
+            if (isSurrogatePair) {
+                i++;
+            }
+            lineOctets += octets;
+        }
+        writer.append(contentLine, lineStart, contentLine.length()).append(LINE_BREAK);
+    }
+}
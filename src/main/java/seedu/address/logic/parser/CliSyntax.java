@@ -16,4 +16,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_START_DATE = new Prefix("sd/");
     public static final Prefix PREFIX_END_DATE = new Prefix("ed/");
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("dc/");
+    public static final Prefix PREFIX_COLUMN = new Prefix("c/");
+    public static final Prefix PREFIX_EVENT = new Prefix("ev/");
+    public static final Prefix PREFIX_MODE = new Prefix("m/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("fmt/");
+    public static final Prefix PREFIX_EVENT_SHEET = new Prefix("es/");
 }
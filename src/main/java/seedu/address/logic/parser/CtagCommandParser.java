@@ -22,52 +22,56 @@ public class CtagCommandParser implements Parser<CtagCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the CtagCommand
      * and returns a CtagCommand object for execution.
+     * A single word is a tag name, and anything else must be the arguments of an event tag, which are checked by
+     * {@link #parseEventTag(String)} alone.
      * @throws ParseException if the user input does not conform the expected format
      */
     @Override
     public CtagCommand parse(String args) throws ParseException {
         requireNonNull(args);
         String tagName = args.trim();
-        CtagCommand cmd = new CtagCommand(null, null);
         if (tagName.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, CtagCommand.MESSAGE_USAGE));
         }
 
-        boolean isEventTag = ArgumentTokenizer.findPrefixPosition(args, PREFIX_EVENT_TAG.getPrefix(), 0) != -1;
-        boolean isTag = tagName.split(" ").length == 1;
         //check type of tag: e-tag or normal tag
+        boolean isTag = tagName.split(" ").length == 1;
         if (isTag) {
-            //if we have a tag string
-            Tag tag = ParserUtil.parseTag(tagName);
-            cmd = new CtagCommand(tag, null);
-        } else if (isEventTag) {
-            //if we have an event tag
-            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                    PREFIX_EVENT_TAG, PREFIX_DESCRIPTION, PREFIX_START_DATE, PREFIX_END_DATE);
-            if (!containsAllPrefix(argMultimap,
-                    PREFIX_EVENT_TAG, PREFIX_DESCRIPTION, PREFIX_START_DATE, PREFIX_END_DATE)
-                    || !argMultimap.getPreamble().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CtagCommand.MESSAGE_USAGE));
-            }
-            argMultimap.verifyNoDuplicatePrefixesFor(
-                    PREFIX_EVENT_TAG, PREFIX_DESCRIPTION, PREFIX_START_DATE, PREFIX_END_DATE);
-            String name = argMultimap.getValue(PREFIX_EVENT_TAG).get();
-            LocalDateTime sd = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_DATE).get());
-            LocalDateTime ed = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_DATE).get());
-            String description = argMultimap.getValue(PREFIX_DESCRIPTION).get();
-            EventTag eventTag = new EventTag(name, description, sd, ed);
-            cmd = new CtagCommand(null, eventTag);
+            return new CtagCommand(ParserUtil.parseTag(tagName), null);
         }
-        return cmd;
+        return new CtagCommand(null, parseEventTag(args));
     }
 
     /**
-     * Check if all prefixes have input, returns true if so
-     * and returns a CtagCommand object for execution.
-     * @throws ParseException if the user input does not conform the expected format
+     * Parses the given {@code String} of event tag arguments, such as
+     * {@code " t/E-orientation dc/Orientation! sd/2024-04-04 02:02:02 ed/2024-04-05 02:02:02"}, into an
+     * {@code EventTag}. Each prefix must be preceded by whitespace.
+     * @throws ParseException if the arguments do not conform the expected format
+     */
+    static EventTag parseEventTag(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_EVENT_TAG, PREFIX_DESCRIPTION, PREFIX_START_DATE, PREFIX_END_DATE);
+        if (!containsAllPrefix(argMultimap, PREFIX_EVENT_TAG, PREFIX_DESCRIPTION, PREFIX_START_DATE, PREFIX_END_DATE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CtagCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(
+                PREFIX_EVENT_TAG, PREFIX_DESCRIPTION, PREFIX_START_DATE, PREFIX_END_DATE);
+        String name = argMultimap.getValue(PREFIX_EVENT_TAG).get();
+        LocalDateTime sd = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_DATE).get());
+        LocalDateTime ed = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_DATE).get());
+        String description = argMultimap.getValue(PREFIX_DESCRIPTION).get();
+        if (!Tag.isValidTagName(name)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return new EventTag(name, description, sd, ed);
+    }
+
+    /**
+     * Returns true if all of {@code prefixes} have a value in {@code argumentMultimap}.
      */
-    public boolean containsAllPrefix(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+    public static boolean containsAllPrefix(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 }
@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_SHEET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_COLUMN = "Columns must be one of: " + String.join(", ", FIELDS);
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Each column can only be exported once!";
+    public static final String MESSAGE_INVALID_FORMAT = "Format must be one of: csv, jsonl, vcard";
+    public static final String MESSAGE_EVENT_SHEET_FORMAT = "An event sheet can only be exported with the csv format!";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_FILE, PREFIX_FORMAT, PREFIX_COLUMN, PREFIX_TAG, PREFIX_EVENT, PREFIX_EVENT_SHEET);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE, PREFIX_FORMAT, PREFIX_TAG, PREFIX_EVENT,
+                PREFIX_EVENT_SHEET);
+
+        String path = argMultimap.getValue(PREFIX_FILE).orElse("");
+        ExportFormat format = argMultimap.getValue(PREFIX_FORMAT).isPresent()
+                ? ExportFormat.fromName(argMultimap.getValue(PREFIX_FORMAT).get())
+                        .orElseThrow(() -> new ParseException(MESSAGE_INVALID_FORMAT))
+                : ExportFormat.CSV;
+        List<String> columns = parseColumns(argMultimap.getAllValues(PREFIX_COLUMN));
+        Tag tag = argMultimap.getValue(PREFIX_TAG).isPresent()
+                ? ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get())
+                : null;
+        Tag eventTag = argMultimap.getValue(PREFIX_EVENT).isPresent()
+                ? ParserUtil.parseEventTag(argMultimap.getValue(PREFIX_EVENT).get())
+                : null;
+        String eventSheetPath = argMultimap.getValue(PREFIX_EVENT_SHEET).orElse(null);
+        if (eventSheetPath != null && format != ExportFormat.CSV) {
+            throw new ParseException(MESSAGE_EVENT_SHEET_FORMAT);
+        }
+        return new ExportCommand(path, format, columns, tag, eventTag, eventSheetPath);
+    }
+
+    /**
+     * Parses the names of the columns to export, in any case, into fields from {@code ImportExportSyntax.FIELDS}.
+     * All fields are exported if no columns are given.
+     */
+    private static List<String> parseColumns(List<String> columnNames) throws ParseException {
+        if (columnNames.isEmpty()) {
+            return FIELDS;
+        }
+        List<String> columns = new ArrayList<>();
+        for (String columnName : columnNames) {
+            String column = columnName.trim().toUpperCase(Locale.ROOT);
+            if (!FIELDS.contains(column)) {
+                throw new ParseException(MESSAGE_INVALID_COLUMN);
+            }
+            if (columns.contains(column)) {
+                throw new ParseException(MESSAGE_DUPLICATE_COLUMN);
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+}
@@ -2,11 +2,15 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_SHEET;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODE;
 
+import java.util.Locale;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportCommand.Mode;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -14,6 +18,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ImportCommandParser implements Parser<ImportCommand> {
 
+    public static final String MESSAGE_INVALID_MODE = "Mode must be one of: add, sync, mirror";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
      * and returns an ImportCommand object for execution.
@@ -22,15 +28,32 @@ public class ImportCommandParser implements Parser<ImportCommand> {
     public ImportCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_FILE);
+                PREFIX_FILE, PREFIX_MODE, PREFIX_EVENT_SHEET);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_FILE)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
         }
 
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE, PREFIX_MODE, PREFIX_EVENT_SHEET);
+
         String path = argMultimap.getValue(PREFIX_FILE).orElse("");
-        return new ImportCommand(path);
+        Mode mode = argMultimap.getValue(PREFIX_MODE).isPresent()
+                ? parseMode(argMultimap.getValue(PREFIX_MODE).get())
+                : Mode.ADD;
+        String eventSheetPath = argMultimap.getValue(PREFIX_EVENT_SHEET).orElse(null);
+        return new ImportCommand(path, mode, eventSheetPath);
+    }
+
+    /**
+     * Parses the name of an import mode, in any case.
+     */
+    private static Mode parseMode(String modeName) throws ParseException {
+        try {
+            return Mode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_MODE);
+        }
     }
 
     /**
@@ -0,0 +1,274 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.commands.ImportExportSyntax.EVENT_SHEET_FIELDS;
+import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
+import static seedu.address.logic.commands.ImportExportSyntax.NUMBER_OF_FIELDS;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.commands.CtagCommand;
+import seedu.address.logic.parser.exceptions.CsvParseException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the rows of an import file, with values in the order of {@code ImportExportSyntax.FIELDS}, directly into
+ * persons, without going through the commands that a user would enter to add them.
+ * An event tag is defined by the first row that gives its details, and can be referred to by name in later rows.
+ * Event tags that are already in the address book can be referred to by name in any row, as can the event tags of an
+ * event sheet, which are all defined with {@link #defineEventTag(List)} before any row is parsed.
+ * The event tags of the address book are taken when the parser is created, so that the parser never reads the model,
+ * which may only be read on the thread that changes it.
+ *
+ * Parsing is split into two stages, so that the values of many rows can be parsed at the same time:
+ * {@link #parseValues(List)} does not depend on other rows and can be called from several threads at once, while
+ * {@link #resolve(ParsedRow)} looks up the event tags that a row refers to, and must be called in the order of the
+ * rows.
+ */
+public class ImportRowParser {
+
+    public static final String MESSAGE_INVALID_ROW_LENGTH = "Each row must have exactly " + NUMBER_OF_FIELDS
+            + " values!";
+    public static final String MESSAGE_INVALID_EVENT_SHEET_ROW_LENGTH = "Each row of the event sheet must have "
+            + "exactly " + EVENT_SHEET_FIELDS.size() + " values!";
+    public static final String NO_EVENTS = "N/A";
+
+    public static final int NAME_INDEX = FIELDS.indexOf("NAME");
+    public static final int NUMBER_INDEX = FIELDS.indexOf("NUMBER");
+    public static final int EMAIL_INDEX = FIELDS.indexOf("EMAIL");
+    public static final int ADDRESS_INDEX = FIELDS.indexOf("ADDRESS");
+    public static final int EVENTS_INDEX = FIELDS.indexOf("EVENTS");
+    public static final int TAGS_INDEX = FIELDS.indexOf("TAGS");
+
+    public static final int EVENT_NAME_INDEX = EVENT_SHEET_FIELDS.indexOf("EVENT");
+    public static final int EVENT_DESCRIPTION_INDEX = EVENT_SHEET_FIELDS.indexOf("DESCRIPTION");
+    public static final int EVENT_START_INDEX = EVENT_SHEET_FIELDS.indexOf("START");
+    public static final int EVENT_END_INDEX = EVENT_SHEET_FIELDS.indexOf("END");
+
+    private static final String VALUES_DELIMITER = "\\|";
+
+    private final Map<String, EventTag> existingEventTags = new HashMap<>();
+    private final boolean allowsExistingDefinitions;
+    private final Map<String, EventTag> definedEventTags = new HashMap<>();
+    // tags are shared between the persons parsed, rather than created again for every row
+    private final Map<String, Tag> parsedTags = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a parser for rows to be imported into an address book with the event tags of {@code addressBook}.
+     */
+    public ImportRowParser(ReadOnlyAddressBook addressBook) {
+        this(addressBook, false);
+    }
+
+    /**
+     * Creates a parser for rows to be imported into an address book with the event tags of {@code addressBook}.
+     * If {@code allowsExistingDefinitions} is true, a row may also define an event tag that is already in the
+     * address book with the same details, which then refers to the event tag in the address book.
+     */
+    public ImportRowParser(ReadOnlyAddressBook addressBook, boolean allowsExistingDefinitions) {
+        requireNonNull(addressBook);
+        for (EventTag eventTag : addressBook.getEventTagList()) {
+            existingEventTags.put(eventTag.tagName, eventTag);
+        }
+        this.allowsExistingDefinitions = allowsExistingDefinitions;
+    }
+
+    /**
+     * Defines the event tag of {@code sheetRow}, a row of an event sheet with values in the order of
+     * {@code ImportExportSyntax.EVENT_SHEET_FIELDS}, so that the rows parsed after it can refer to it by name.
+     * If the address book already has the same event tag, the rows refer to the event tag in the address book instead.
+     *
+     * @throws CsvParseException if any of the values in the row is invalid, or if an event tag with the same name
+     *     has been defined before or is in the address book with other details.
+     */
+    public void defineEventTag(List<String> sheetRow) throws CsvParseException {
+        checkRowLength(sheetRow, EVENT_SHEET_FIELDS.size(), MESSAGE_INVALID_EVENT_SHEET_ROW_LENGTH);
+        String name = parseValue(EVENT_NAME_INDEX, () ->
+                ParserUtil.parseEventTag(sheetRow.get(EVENT_NAME_INDEX))).tagName;
+        String description = sheetRow.get(EVENT_DESCRIPTION_INDEX).trim();
+        LocalDateTime startDate = parseValue(EVENT_START_INDEX, () ->
+                ParserUtil.parseDateTime(sheetRow.get(EVENT_START_INDEX)));
+        LocalDateTime endDate = parseValue(EVENT_END_INDEX, () ->
+                ParserUtil.parseDateTime(sheetRow.get(EVENT_END_INDEX)));
+        EventTag eventTag = new EventTag(name, description, startDate, endDate);
+
+        EventTag existingEventTag = existingEventTags.get(name);
+        if (eventTag.equals(existingEventTag)) {
+            definedEventTags.put(name, existingEventTag);
+            return;
+        }
+        if (existingEventTag != null || definedEventTags.containsKey(name)) {
+            throw new CsvParseException(EVENT_NAME_INDEX, CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG);
+        }
+        definedEventTags.put(name, eventTag);
+    }
+
+    /**
+     * Parses {@code row} into a person, as {@code resolve(parseValues(row))} does.
+     *
+     * @throws CsvParseException if any of the values in the row is invalid.
+     */
+    public Person parse(List<String> row) throws CsvParseException {
+        return resolve(parseValues(row));
+    }
+
+    /**
+     * Parses the values of {@code row}, without looking up the event tags it refers to.
+     * This can be called from several threads at once.
+     *
+     * @throws CsvParseException if any of the values in the row is invalid.
+     */
+    public ParsedRow parseValues(List<String> row) throws CsvParseException {
+        checkRowLength(row, NUMBER_OF_FIELDS, MESSAGE_INVALID_ROW_LENGTH);
+        Name name = parseValue(NAME_INDEX, () -> ParserUtil.parseName(row.get(NAME_INDEX)));
+        Phone phone = parseValue(NUMBER_INDEX, () -> ParserUtil.parsePhone(row.get(NUMBER_INDEX)));
+        Email email = parseValue(EMAIL_INDEX, () -> ParserUtil.parseEmail(row.get(EMAIL_INDEX)));
+        Address address = parseValue(ADDRESS_INDEX, () -> ParserUtil.parseAddress(row.get(ADDRESS_INDEX)));
+        ParsedRow parsedRow = new ParsedRow(name, phone, email, address);
+
+        String events = row.get(EVENTS_INDEX).trim();
+        if (!events.isEmpty() && !events.equals(NO_EVENTS)) {
+            for (String details : events.split(VALUES_DELIMITER)) {
+                if (details.trim().split(" ").length != 1) {
+                    parsedRow.definedEventTags.add(parseValue(EVENTS_INDEX, () ->
+                            CtagCommandParser.parseEventTag(" " + details)));
+                } else {
+                    parsedRow.referredEventTagNames.add(parseValue(EVENTS_INDEX, () ->
+                            ParserUtil.parseEventTag(details)).tagName);
+                }
+            }
+        }
+
+        String tags = row.get(TAGS_INDEX).trim();
+        if (!tags.isEmpty()) {
+            for (String tagName : tags.split(VALUES_DELIMITER)) {
+                Tag tag = parsedTags.get(tagName);
+                if (tag == null) {
+                    tag = parseValue(TAGS_INDEX, () -> ParserUtil.parseTag(tagName));
+                    parsedTags.put(tagName, tag);
+                }
+                parsedRow.tags.add(tag);
+            }
+        }
+        return parsedRow;
+    }
+
+    /**
+     * Creates the person of {@code parsedRow}, looking up the event tags it refers to among the event tags defined
+     * by the rows resolved before it and those in the address book.
+     * The event tags defined by the row can be referred to by the rows resolved after it.
+     *
+     * @throws CsvParseException if an event tag defined by the row has been defined before, or if an event tag that
+     *     the row refers to has not been defined.
+     */
+    public Person resolve(ParsedRow parsedRow) throws CsvParseException {
+        requireNonNull(parsedRow);
+        Map<String, EventTag> newEventTags = new HashMap<>();
+        Set<EventTag> eventTags = new HashSet<>();
+        for (EventTag eventTag : parsedRow.definedEventTags) {
+            EventTag existingEventTag = existingEventTags.get(eventTag.tagName);
+            if (allowsExistingDefinitions && eventTag.equals(existingEventTag)) {
+                eventTags.add(existingEventTag);
+                continue;
+            }
+            if (existingEventTag != null || definedEventTags.containsKey(eventTag.tagName)
+                    || newEventTags.containsKey(eventTag.tagName)) {
+                throw new CsvParseException(EVENTS_INDEX, CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG);
+            }
+            newEventTags.put(eventTag.tagName, eventTag);
+        }
+
+        eventTags.addAll(newEventTags.values());
+        for (String tagName : parsedRow.referredEventTagNames) {
+            eventTags.add(getEventTag(tagName, newEventTags));
+        }
+
+        definedEventTags.putAll(newEventTags);
+        return new Person(parsedRow.name, parsedRow.phone, parsedRow.email, parsedRow.address, parsedRow.tags,
+                eventTags);
+    }
+
+    private EventTag getEventTag(String tagName, Map<String, EventTag> newEventTags) throws CsvParseException {
+        EventTag eventTag = newEventTags.get(tagName);
+        if (eventTag == null) {
+            eventTag = definedEventTags.get(tagName);
+        }
+        if (eventTag == null) {
+            eventTag = existingEventTags.get(tagName);
+        }
+        if (eventTag == null) {
+            throw new CsvParseException(EVENTS_INDEX, AssignCommand.MESSAGE_ASSIGN_TAG_MISSING);
+        }
+        return eventTag;
+    }
+
+    private static <T> T parseValue(int columnIndex, ValueParser<T> valueParser) throws CsvParseException {
+        try {
+            return valueParser.parse();
+        } catch (ParseException e) {
+            throw new CsvParseException(columnIndex, e.getMessage());
+        }
+    }
+
+    private static void checkRowLength(List<String> row, int numberOfFields, String message)
+            throws CsvParseException {
+        requireNonNull(row);
+        if (row.size() < numberOfFields) {
+            throw new CsvParseException(CsvParseException.WHOLE_ROW, message);
+        }
+        // rows ending with a separator have an extra empty value
+        for (String value : row.subList(numberOfFields, row.size())) {
+            if (!value.isEmpty()) {
+                throw new CsvParseException(CsvParseException.WHOLE_ROW, message);
+            }
+        }
+    }
+
+    /**
+     * Parses a single value of a row.
+     */
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse() throws ParseException;
+    }
+
+    /**
+     * The values of a row, with the event tags it refers to not looked up yet.
+     */
+    public static class ParsedRow {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final Set<Tag> tags = new HashSet<>();
+        private final List<EventTag> definedEventTags = new ArrayList<>();
+        private final List<String> referredEventTagNames = new ArrayList<>();
+
+        private ParsedRow(Name name, Phone phone, Email email, Address address) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+        }
+
+        public Name getName() {
+            return name;
+        }
+    }
+}
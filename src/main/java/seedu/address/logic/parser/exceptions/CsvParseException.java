@@ -0,0 +1,28 @@
+package seedu.address.logic.parser.exceptions;
+
+/**
+ * Represents a parse error in a row of a csv file, in the value of one of its columns or in the row as a whole.
+ */
+public class CsvParseException extends ParseException {
+
+    /** Column index of an error in the row as a whole. */
+    public static final int WHOLE_ROW = -1;
+
+    private final int columnIndex;
+
+    /**
+     * Creates an exception for an error in the value at the zero-based {@code columnIndex} of a row,
+     * or in the whole row if {@code columnIndex} is {@code WHOLE_ROW}.
+     */
+    public CsvParseException(int columnIndex, String message) {
+        super(message);
+        this.columnIndex = columnIndex;
+    }
+
+    /**
+     * Returns the zero-based index of the column with the error, or {@code WHOLE_ROW}.
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+}
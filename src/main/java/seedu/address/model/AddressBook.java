@@ -3,15 +3,25 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecords;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.EventTag;
 import seedu.address.model.tag.Tag;
@@ -20,6 +30,15 @@ import seedu.address.model.tag.UniqueTagList;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * An inverted index from tag name to the persons holding that tag is kept for both tags and event tags, so that
+ * the persons with a given tag can be found without checking the tags of every person. Another from each word of a
+ * name, in lower case, to the persons whose name has that word lets persons be found by name in the same way. Its
+ * words are kept in order, so that the words starting with a prefix are found together.
+ * The index of a copied address book, or of one created from {@link PersonRecords}, is only built when it is first
+ * needed, so that persons that have not been created yet are not created just to index them.
+ * Each change to the persons and tags is recorded as an {@link AddressBookChange}, so that the changes between two
+ * snapshots can be found without comparing them. Replacing all persons or all tags at once is not recorded, and
+ * starts a new record instead.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -30,6 +49,15 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueTagList<Tag> tagList;
     private final UniqueTagList<EventTag> eventTagList;
 
+    // A changed person is a new person that replaces the old one, so the indexed person sets compare persons by
+    // identity, which is cheaper than hashing all of their details.
+    // Entries are removed once they are empty, so that tags and words that no person has are not kept.
+    private final Map<String, Set<Person>> tagIndex = new HashMap<>();
+    private final Map<String, Set<Person>> eventTagIndex = new HashMap<>();
+    private final NavigableMap<String, Set<Person>> nameTokenIndex = new TreeMap<>();
+    private boolean isIndexBuilt = true;
+    private ChangeLogEntry lastChange = ChangeLogEntry.startChain();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -38,19 +66,39 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        persons = new UniquePersonList();
         tagList = new UniqueTagList<Tag>();
         eventTagList = new UniqueTagList<EventTag>();
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        persons = new UniquePersonList();
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
-        resetData(toBeCopied);
+        requireNonNull(toBeCopied);
+        if (toBeCopied instanceof AddressBook) {
+            // copying the person list directly does not create the persons that toBeCopied has not created yet
+            persons = new UniquePersonList(((AddressBook) toBeCopied).persons);
+            isIndexBuilt = false;
+            setTagList(toBeCopied.getTagList());
+            setEventTagList(toBeCopied.getEventTagList());
+        } else {
+            persons = new UniquePersonList();
+            resetData(toBeCopied);
+        }
+    }
+
+    /**
+     * Creates an AddressBook holding the persons in {@code personRecords}, which must not contain duplicate persons.
+     * Each person is only created when it is first accessed. The tags of the persons are not added to the address
+     * book, so they must be added separately.
+     */
+    public AddressBook(PersonRecords personRecords) {
+        persons = new UniquePersonList(personRecords);
+        isIndexBuilt = false;
     }
 
     //// list overwrite operations
@@ -61,14 +109,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        lastChange = ChangeLogEntry.startChain();
+        tagIndex.clear();
+        eventTagIndex.clear();
+        nameTokenIndex.clear();
+        isIndexBuilt = false;
+        buildIndex();
     }
 
     public void setTagList(Set<Tag> tagList) {
         this.tagList.setTags(tagList);
+        lastChange = ChangeLogEntry.startChain();
     }
 
     public void setEventTagList(Set<EventTag> eventTagList) {
         this.eventTagList.setTags(eventTagList);
+        lastChange = ChangeLogEntry.startChain();
     }
 
     /**
@@ -92,6 +148,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person named {@code name}, or null if there is no such person in the address book.
+     */
+    public Person getPerson(Name name) {
+        requireNonNull(name);
+        return persons.get(name);
+    }
+
     /**
      * Returns true if a tag {@code tag} exists in the address book.
      */
@@ -101,18 +165,25 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Assigns the given tags {@code tags} to {@code targetPerson}.
-     * {@code tags} must exist in the address book.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Assigns the given tags {@code tags} and the event tags named by {@code eventTags} to {@code targetPerson}, by
+     * replacing it with a person that has them.
+     * {@code targetPerson} must exist in the address book, and {@code tags} and {@code eventTags} must exist in the
+     * address book.
+     *
+     * @return the person that replaced {@code targetPerson}, which is {@code targetPerson} if it already had all of
+     *     the tags
      */
-    public void assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags) {
-        targetPerson.addTags(tags);
+    public Person assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags) {
         Set<EventTag> eventsToAdd = new HashSet<>();
         for (Tag t : eventTags) {
             EventTag eventTag = getEventTag(t.tagName);
             eventsToAdd.add(eventTag);
         }
-        targetPerson.addEventTags(eventsToAdd);
+        Person assignedPerson = targetPerson.withAddedTags(tags, eventsToAdd);
+        if (assignedPerson != targetPerson) {
+            setPerson(targetPerson, assignedPerson);
+        }
+        return assignedPerson;
     }
 
     /**
@@ -137,13 +208,49 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
-        for (Tag tag:p.getTags()) {
+        recordChange(AddressBookChange.putPerson(p, null));
+        indexPerson(p);
+        addMissingTags(p);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book at once, so that listeners of the person list are notified once.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicate persons.
+     * Tags and event tags of the persons that are not in the address book yet are added as well.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        for (Person p : toAdd) {
+            recordChange(AddressBookChange.putPerson(p, null));
+            indexPerson(p);
+            addMissingTags(p);
+        }
+    }
+
+    /**
+     * Replaces each person of {@code targets} with the person at the same position of {@code editedPersons}, which
+     * must have the same identity, at once.
+     * Every person of {@code targets} must exist in the address book.
+     * Tags and event tags of the edited persons that are not in the address book yet are added as well.
+     */
+    public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+        replaceIndexed(targets, editedPersons);
+        for (Person editedPerson : editedPersons) {
+            addMissingTags(editedPerson);
+        }
+    }
+
+    /**
+     * Adds the tags and event tags of {@code p} that are not in the address book yet.
+     */
+    private void addMissingTags(Person p) {
+        for (Tag tag : p.getTags()) {
             if (!hasTag(tag)) {
                 addTag(tag);
             }
         }
-        for (EventTag eventTag:p.getEventTags()) {
-            if (!hasEventTag(eventTag)) {
+        for (EventTag eventTag : p.getEventTags()) {
+            if (!hasEventTag(eventTag.tagName)) {
                 addEventTag(eventTag);
             }
         }
@@ -155,6 +262,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTag(Tag t) {
         tagList.add(t);
+        recordChange(AddressBookChange.addTag(t));
     }
 
     /**
@@ -163,6 +271,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEventTag(EventTag t) {
         eventTagList.add(t);
+        recordChange(AddressBookChange.putEventTag(t));
     }
 
     /**
@@ -182,6 +291,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        Name replaced = target.getName().equals(editedPerson.getName()) ? null : target.getName();
+        recordChange(AddressBookChange.putPerson(editedPerson, replaced));
+        unindexPerson(target);
+        indexPerson(editedPerson);
     }
 
     /**
@@ -193,6 +306,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedTag);
 
         tagList.replace(target, editedTag);
+        // replacing a tag without changing the persons holding it is not a recorded kind of change
+        lastChange = ChangeLogEntry.startChain();
     }
 
     /**
@@ -204,6 +319,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedTag);
 
         eventTagList.replace(target, editedTag);
+        if (target.tagName.equals(editedTag.tagName)) {
+            recordChange(AddressBookChange.putEventTag(editedTag));
+        } else {
+            // renaming an event tag without changing the persons holding it is not a recorded kind of change
+            lastChange = ChangeLogEntry.startChain();
+        }
     }
 
     /**
@@ -212,6 +333,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        recordChange(AddressBookChange.removePerson(key.getName()));
+        unindexPerson(key);
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * Every person of {@code keys} must exist in the address book.
+     */
+    public void removePersons(List<Person> keys) {
+        persons.removeAll(keys);
+        for (Person key : keys) {
+            recordChange(AddressBookChange.removePerson(key.getName()));
+            unindexPerson(key);
+        }
     }
 
     /**
@@ -219,10 +354,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeTag(Tag key) {
-        for (Person p:persons) {
-            p.removeTag(key);
+        buildIndex();
+        Set<Person> taggedPersons = tagIndex.get(key.tagName);
+        if (taggedPersons != null) {
+            List<Person> targets = new ArrayList<>(taggedPersons);
+            List<Person> editedPersons = new ArrayList<>(targets.size());
+            for (Person p : targets) {
+                editedPersons.add(p.withoutTag(key));
+            }
+            replaceIndexed(targets, editedPersons);
         }
         tagList.remove(key);
+        recordChange(AddressBookChange.removeTag(key));
     }
 
     /**
@@ -230,10 +373,194 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeEventTag(EventTag key) {
-        for (Person p:persons) {
-            p.removeEventTag(key);
+        buildIndex();
+        Set<Person> taggedPersons = eventTagIndex.get(key.tagName);
+        if (taggedPersons != null) {
+            List<Person> targets = new ArrayList<>(taggedPersons);
+            List<Person> editedPersons = new ArrayList<>(targets.size());
+            for (Person p : targets) {
+                editedPersons.add(p.withoutEventTag(key));
+            }
+            replaceIndexed(targets, editedPersons);
         }
         eventTagList.remove(key);
+        recordChange(AddressBookChange.removeEventTag(key));
+    }
+
+    /**
+     * Replaces each person of {@code targets} with the person at the same position of {@code editedPersons} at once,
+     * and updates the index for them.
+     */
+    private void replaceIndexed(List<Person> targets, List<Person> editedPersons) {
+        persons.setAll(targets, editedPersons);
+        for (int i = 0; i < targets.size(); i++) {
+            recordChange(AddressBookChange.putPerson(editedPersons.get(i), null));
+            unindexPerson(targets.get(i));
+            indexPerson(editedPersons.get(i));
+        }
+    }
+
+    /**
+     * Returns a snapshot of this address book, which is not affected by later changes to it.
+     * The snapshot shares its persons with this address book rather than copying them, so taking one does not take
+     * longer as the address book grows. Persons that have not been created yet are not created by taking it.
+     *
+     * @param version of this address book, to be recorded in the snapshot
+     */
+    public AddressBookSnapshot snapshot(long version) {
+        return new AddressBookSnapshot(version, persons.snapshot(), tagList.asUnmodifiableObservableSet(),
+                eventTagList.asUnmodifiableObservableSet(), lastChange);
+    }
+
+    private void recordChange(AddressBookChange change) {
+        lastChange = lastChange.append(change);
+    }
+
+    //// index operations
+
+    /**
+     * Returns the persons holding a tag with the same name as {@code tag}, in an unmodifiable copy that later changes
+     * to the persons of the address book do not affect.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return getIndexEntry(tagIndex, tag.tagName);
+    }
+
+    /**
+     * Returns the persons holding an event tag with the same name as {@code eventTag}, in an unmodifiable copy that
+     * later changes to the persons of the address book do not affect.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithEventTag(EventTag eventTag) {
+        requireNonNull(eventTag);
+        return getIndexEntry(eventTagIndex, eventTag.tagName);
+    }
+
+    /**
+     * Returns the persons with a word in their name that is {@code token}, ignoring case, in an unmodifiable copy
+     * that later changes to the persons of the address book do not affect.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithNameToken(String token) {
+        requireNonNull(token);
+        return getIndexEntry(nameTokenIndex, toNameToken(token));
+    }
+
+    /**
+     * Returns the persons with a word in their name that starts with {@code prefix}, ignoring case.
+     * A person with several such words is returned once for each of them.
+     */
+    public List<Person> getPersonsWithNameTokenPrefix(String prefix) {
+        requireNonNull(prefix);
+        buildIndex();
+        String tokenPrefix = toNameToken(prefix);
+        List<Person> matchingPersons = new ArrayList<>();
+        for (Map.Entry<String, Set<Person>> entry : nameTokenIndex.tailMap(tokenPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(tokenPrefix)) {
+                break;
+            }
+            matchingPersons.addAll(entry.getValue());
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns the number of tag names, event tag names and words of names that have an entry in the indexes.
+     */
+    int getIndexedKeyCount() {
+        buildIndex();
+        return tagIndex.size() + eventTagIndex.size() + nameTokenIndex.size();
+    }
+
+    /**
+     * Returns {@code word} in the case it is indexed in, so that words differing only in case are indexed together.
+     */
+    private static String toNameToken(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] getNameTokens(Person person) {
+        return toNameToken(person.getName().fullName).split("\\s+");
+    }
+
+    /**
+     * Indexes every person by their tags, event tags and the words of their name, if that has not been done yet.
+     */
+    private void buildIndex() {
+        if (isIndexBuilt) {
+            return;
+        }
+        isIndexBuilt = true;
+        for (Person person : persons) {
+            indexPerson(person);
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index entries of all of its tags, event tags and name words, if the index has been
+     * built.
+     */
+    private void indexPerson(Person person) {
+        if (!isIndexBuilt) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            addToIndex(tagIndex, tag.tagName, person);
+        }
+        for (EventTag eventTag : person.getEventTags()) {
+            addToIndex(eventTagIndex, eventTag.tagName, person);
+        }
+        for (String token : getNameTokens(person)) {
+            addToIndex(nameTokenIndex, token, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index entries of all of its tags, event tags and name words, if the index has
+     * been built.
+     */
+    private void unindexPerson(Person person) {
+        if (!isIndexBuilt) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            removeFromIndex(tagIndex, tag.tagName, person);
+        }
+        for (EventTag eventTag : person.getEventTags()) {
+            removeFromIndex(eventTagIndex, eventTag.tagName, person);
+        }
+        for (String token : getNameTokens(person)) {
+            removeFromIndex(nameTokenIndex, token, person);
+        }
+    }
+
+    private static void addToIndex(Map<String, Set<Person>> index, String key, Person person) {
+        // most words of names are held by few persons, so entries start small and grow as needed
+        index.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>(1))).add(person);
+    }
+
+    private static void removeFromIndex(Map<String, Set<Person>> index, String key, Person person) {
+        Set<Person> indexedPersons = index.get(key);
+        if (indexedPersons != null && indexedPersons.remove(person) && indexedPersons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the entry of {@code key} in {@code index}, without adding an entry for it.
+     */
+    private Set<Person> getIndexEntry(Map<String, Set<Person>> index, String key) {
+        buildIndex();
+        Set<Person> entry = index.get(key);
+        if (entry == null) {
+            return Collections.emptySet();
+        }
+        // an emptied entry is dropped from the index, so a view of it would miss persons indexed under the key later
+        Set<Person> copy = Collections.newSetFromMap(new IdentityHashMap<>(entry.size()));
+        copy.addAll(entry);
+        return Collections.unmodifiableSet(copy);
     }
 
     //// util methods
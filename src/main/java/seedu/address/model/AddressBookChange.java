@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single change made to an {@code AddressBook}.
+ * An address book records its changes in the order they are made, so that the changes between two of its snapshots
+ * can be found without comparing the snapshots, see {@link AddressBookSnapshot#getChangesSince(AddressBookSnapshot)}.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of change recorded.
+     */
+    public enum Kind {
+        /** Adds a person, or replaces the person with the same name or the replaced name. */
+        PUT_PERSON,
+        /** Removes the person with the name. */
+        REMOVE_PERSON,
+        /** Adds a tag. */
+        ADD_TAG,
+        /** Removes a tag from the address book and from every person holding it. */
+        REMOVE_TAG,
+        /** Adds an event tag, or replaces the event tag with the same name. */
+        PUT_EVENT_TAG,
+        /** Removes an event tag from the address book and from every person holding it. */
+        REMOVE_EVENT_TAG
+    }
+
+    private final Kind kind;
+    private final Person person;
+    private final Name name;
+    private final Tag tag;
+    private final EventTag eventTag;
+
+    private AddressBookChange(Kind kind, Person person, Name name, Tag tag, EventTag eventTag) {
+        this.kind = kind;
+        this.person = person;
+        this.name = name;
+        this.tag = tag;
+        this.eventTag = eventTag;
+    }
+
+    /**
+     * Returns a change that adds {@code person}, or replaces the person with the same name.
+     * If {@code replaced} is not null, the change replaces the person with that name instead, keeping its position.
+     */
+    static AddressBookChange putPerson(Person person, Name replaced) {
+        requireNonNull(person);
+        return new AddressBookChange(Kind.PUT_PERSON, person, replaced, null, null);
+    }
+
+    /**
+     * Returns a change that removes the person named {@code name}.
+     */
+    static AddressBookChange removePerson(Name name) {
+        requireNonNull(name);
+        return new AddressBookChange(Kind.REMOVE_PERSON, null, name, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code tag}.
+     */
+    static AddressBookChange addTag(Tag tag) {
+        requireNonNull(tag);
+        return new AddressBookChange(Kind.ADD_TAG, null, null, tag, null);
+    }
+
+    /**
+     * Returns a change that removes {@code tag}.
+     */
+    static AddressBookChange removeTag(Tag tag) {
+        requireNonNull(tag);
+        return new AddressBookChange(Kind.REMOVE_TAG, null, null, tag, null);
+    }
+
+    /**
+     * Returns a change that adds {@code eventTag}, or replaces the event tag with the same name.
+     */
+    static AddressBookChange putEventTag(EventTag eventTag) {
+        requireNonNull(eventTag);
+        return new AddressBookChange(Kind.PUT_EVENT_TAG, null, null, null, eventTag);
+    }
+
+    /**
+     * Returns a change that removes {@code eventTag}.
+     */
+    static AddressBookChange removeEventTag(EventTag eventTag) {
+        requireNonNull(eventTag);
+        return new AddressBookChange(Kind.REMOVE_EVENT_TAG, null, null, null, eventTag);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the person put by a {@code PUT_PERSON} change, or null for other kinds of change.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the name of the person removed by a {@code REMOVE_PERSON} change, or of the person replaced by a
+     * {@code PUT_PERSON} change that renames it. Returns null otherwise.
+     */
+    public Name getName() {
+        return name;
+    }
+
+    /**
+     * Returns the tag of an {@code ADD_TAG} or {@code REMOVE_TAG} change, or null for other kinds of change.
+     */
+    public Tag getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the event tag of a {@code PUT_EVENT_TAG} or {@code REMOVE_EVENT_TAG} change, or null for other kinds of
+     * change.
+     */
+    public EventTag getEventTag() {
+        return eventTag;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("person", person)
+                .add("name", name)
+                .add("tag", tag)
+                .add("eventTag", eventTag)
+                .toString();
+    }
+}
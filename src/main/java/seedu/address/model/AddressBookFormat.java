@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The file formats the address book can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, the default. */
+    JSON,
+    /** Compact binary snapshot that is faster to load for large address books. */
+    BINARY,
+    /** The binary snapshot, memory-mapped so that each person is only loaded when it is first used. */
+    MAPPED
+}
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable view of an address book as it was at one version.
+ * A snapshot is taken on the thread that changes the model, and can then be read from any thread without locking,
+ * however the address book changes afterwards. The persons and tags are shared with the address book, not copied.
+ * A snapshot also knows the last change recorded by the address book before it was taken, so that the changes between
+ * two snapshots of the same address book can be found in time proportional to their number.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final ObservableList<Person> persons;
+    private final ObservableSet<Tag> tags;
+    private final ObservableSet<EventTag> eventTags;
+    private final ChangeLogEntry lastChange;
+
+    /**
+     * Creates a snapshot of the given version of an address book.
+     * {@code persons} must not be changed afterwards; the tag sets are copied.
+     * {@code lastChange} is the last change recorded by the address book before the snapshot is taken.
+     */
+    AddressBookSnapshot(long version, List<Person> persons, Set<Tag> tags, Set<EventTag> eventTags,
+            ChangeLogEntry lastChange) {
+        requireAllNonNull(persons, tags, eventTags, lastChange);
+        this.version = version;
+        this.lastChange = lastChange;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tags = FXCollections.unmodifiableObservableSet(FXCollections.observableSet(Set.copyOf(tags)));
+        this.eventTags = FXCollections.unmodifiableObservableSet(FXCollections.observableSet(Set.copyOf(eventTags)));
+    }
+
+    /**
+     * Returns the version of the address book that this is a snapshot of.
+     *
+     * @see Model#getAddressBookVersion()
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes that turn the address book of {@code earlier} into the address book of this snapshot, in
+     * the order they were made.
+     * Returns an empty {@code Optional} if they are not known, which is the case if the snapshots are of different
+     * address books, if the whole address book was replaced in between, or if {@code earlier} was taken later.
+     */
+    public Optional<List<AddressBookChange>> getChangesSince(AddressBookSnapshot earlier) {
+        if (!earlier.lastChange.isFollowedBy(lastChange)) {
+            return Optional.empty();
+        }
+
+        List<AddressBookChange> changes = new ArrayList<>(earlier.lastChange.countUntil(lastChange));
+        ChangeLogEntry entry = earlier.lastChange;
+        while (entry != lastChange) {
+            entry = entry.getNext();
+            changes.add(entry.getChange());
+        }
+        return Optional.of(changes);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableSet<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableSet<EventTag> getEventTagList() {
+        return eventTags;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .add("tags", tags)
+                .add("event tags", eventTags)
+                .toString();
+    }
+}
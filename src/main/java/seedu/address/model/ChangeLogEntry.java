@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+/**
+ * A link in the chain of changes recorded by an address book.
+ * The address book only holds the entry of its last change, and each snapshot holds the entry of the last change
+ * made before it was taken. The changes between two snapshots are then the entries between theirs, and entries that
+ * no snapshot needs any more are garbage collected.
+ */
+class ChangeLogEntry {
+
+    // identifies the chain of this entry; not the first entry of the chain, which would keep the whole chain reachable
+    private final Object chain;
+    private final long sequenceNumber;
+    // null for the first entry of a chain
+    private final AddressBookChange change;
+    // set once, on the thread that changes the address book, before any snapshot that reaches past it is taken
+    private volatile ChangeLogEntry next;
+
+    private ChangeLogEntry(Object chain, long sequenceNumber, AddressBookChange change) {
+        this.chain = chain;
+        this.sequenceNumber = sequenceNumber;
+        this.change = change;
+    }
+
+    /**
+     * Returns the first entry of a new chain, for an address book whose earlier changes are not known.
+     */
+    static ChangeLogEntry startChain() {
+        return new ChangeLogEntry(new Object(), 0, null);
+    }
+
+    /**
+     * Returns a new entry for {@code change}, which follows this entry.
+     * This entry must be the last entry of its chain.
+     */
+    ChangeLogEntry append(AddressBookChange change) {
+        assert next == null;
+        ChangeLogEntry entry = new ChangeLogEntry(chain, sequenceNumber + 1, change);
+        next = entry;
+        return entry;
+    }
+
+    /**
+     * Returns true if {@code later} follows this entry, or is this entry, in the same chain.
+     */
+    boolean isFollowedBy(ChangeLogEntry later) {
+        return chain == later.chain && sequenceNumber <= later.sequenceNumber;
+    }
+
+    /**
+     * Returns the number of entries from this entry to {@code later}, which must follow this entry.
+     */
+    int countUntil(ChangeLogEntry later) {
+        return Math.toIntExact(later.sequenceNumber - sequenceNumber);
+    }
+
+    ChangeLogEntry getNext() {
+        return next;
+    }
+
+    AddressBookChange getChange() {
+        return change;
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.EventTag;
 import seedu.address.model.tag.Tag;
@@ -20,6 +23,12 @@ public interface Model {
      */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /**
+     * {@code Comparator} that orders event tags by start date, and event tags that start together by name.
+     */
+    Comparator<EventTag> EVENT_TAG_ORDER = Comparator.comparing((EventTag eventTag) -> eventTag.startDate,
+            Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(eventTag -> eventTag.tagName);
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -60,6 +69,19 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that changes every time the address book data is modified.
+     * Two equal values mean the address book has not been modified in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable snapshot of the address book at its current version, which can be read from any thread
+     * while the address book keeps changing. It must be taken on the thread that changes the model.
+     * Until the address book changes, the same snapshot is returned again.
+     */
+    AddressBookSnapshot getSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,6 +99,30 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons as a single change to the address book.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(List<Person> persons);
+
+    /**
+     * Replaces each person of {@code targets} with the person at the same position of {@code editedPersons} as a
+     * single change to the address book.
+     * Every person of {@code targets} must exist in the address book, and have the same identity as its edited person.
+     */
+    void updatePersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Deletes all of the given persons as a single change to the address book.
+     * Every person of {@code targets} must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
+    /**
+     * Returns the person with the given name, or null if there is no such person in the address book.
+     */
+    Person getPerson(Name name);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -90,11 +136,13 @@ public interface Model {
     boolean hasTag(Tag tag);
 
     /**
-     * Assigns the given tags {@code tags} to {@code targetPerson}.
-     * {@code tags} must exist in the address book.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Assigns the given tags {@code tags} and the event tags named by {@code eventTags} to {@code targetPerson}, by
+     * replacing it with a person that has them.
+     * {@code targetPerson}, {@code tags} and {@code eventTags} must exist in the address book.
+     *
+     * @return the person that replaced {@code targetPerson}
      */
-    void assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags);
+    Person assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags);
 
     /**
      * Deletes the given tag.
@@ -133,8 +181,27 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the predicate that the filtered person list is filtered by, which shows the same persons again when
+     * passed to {@link #updateFilteredPersonList(Predicate)}.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the persons with a word in their name that is one of {@code words}, or that starts with
+     * {@code wordPrefix} unless it is null, ignoring case. The persons are found with the index of the address book
+     * rather than by checking every person, and a person may be returned more than once.
+     */
+    List<Person> getPersonsWithNameWords(List<String> words, String wordPrefix);
+
     ObservableSet<EventTag> getEventTagList();
 
+    /**
+     * Returns an unmodifiable view of the event tags sorted by {@link #EVENT_TAG_ORDER}, which is kept sorted as
+     * event tags are added and removed.
+     */
+    ObservableList<EventTag> getSortedEventTagList();
+
     void updateEventTagPersonList(EventTag t);
 
     void setCurrentEventTag(EventTag tagName);
@@ -4,15 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.EventTag;
 import seedu.address.model.tag.Tag;
@@ -26,7 +34,11 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<EventTag> sortedEventTags;
     private EventTag currentEventTag;
+    private long addressBookVersion;
+    // null until first taken, and replaced once the address book has changed since
+    private AddressBookSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,14 +46,34 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        if (logger.isLoggable(Level.FINE)) {
+            // describing the address book goes through every person, which may not have been loaded yet
+            logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        }
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedEventTags = new SortedList<>(listOf(this.addressBook.getEventTagList()), EVENT_TAG_ORDER);
         currentEventTag = null;
     }
 
+    /**
+     * Returns a list of the elements of {@code set}, which follows the elements added to and removed from the set.
+     */
+    private static <T> ObservableList<T> listOf(ObservableSet<T> set) {
+        ObservableList<T> list = FXCollections.observableArrayList(set);
+        set.addListener((SetChangeListener<T>) change -> {
+            if (change.wasRemoved()) {
+                list.remove(change.getElementRemoved());
+            }
+            if (change.wasAdded()) {
+                list.add(change.getElementAdded());
+            }
+        });
+        return list;
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
@@ -86,6 +118,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        addressBookVersion++;
     }
 
     @Override
@@ -93,6 +126,19 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != addressBookVersion) {
+            snapshot = addressBook.snapshot(addressBookVersion);
+        }
+        return snapshot;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -102,19 +148,50 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        addressBookVersion++;
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        addressBookVersion++;
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        addressBook.updatePersons(targets, editedPersons);
+        addressBookVersion++;
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+        addressBookVersion++;
+    }
+
+    @Override
+    public Person getPerson(Name name) {
+        requireNonNull(name);
+        return addressBook.getPerson(name);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        addressBookVersion++;
     }
 
     @Override
@@ -124,21 +201,25 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags) {
+    public Person assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags) {
         requireAllNonNull(targetPerson, tags, eventTags);
-        addressBook.assign(targetPerson, tags, eventTags);
+        Person assignedPerson = addressBook.assign(targetPerson, tags, eventTags);
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return assignedPerson;
     }
 
     @Override
     public void deleteTag(Tag tag) {
         addressBook.removeTag(tag);
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addTag(Tag tag) {
         addressBook.addTag(tag);
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -157,11 +238,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteEventTag(EventTag tag) {
         addressBook.removeEventTag(tag);
+        addressBookVersion++;
     }
 
     @Override
     public void addEventTag(EventTag tag) {
         addressBook.addEventTag(tag);
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -184,18 +267,57 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<Set<Person>> matchingPersons = new ArrayList<>();
+            for (String keyword : ((NameContainsKeywordsPredicate) predicate).getKeywords()) {
+                matchingPersons.add(addressBook.getPersonsWithNameToken(keyword.trim()));
+            }
+            setIndexedPredicate(person -> isInAny(matchingPersons, person), predicate);
+            return;
+        }
+        // showing all persons without a predicate keeps the filtered list from testing, and so loading, every person
+        filteredPersons.setPredicate(predicate == PREDICATE_SHOW_ALL_PERSONS ? null : predicate);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (predicate == null) {
+            return PREDICATE_SHOW_ALL_PERSONS;
+        }
+        // the persons an indexed predicate found in the indexes may have changed since, so its predicate on details
+        // is returned
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).predicate
+                : (Predicate<Person>) predicate;
+    }
+
+    @Override
+    public List<Person> getPersonsWithNameWords(List<String> words, String wordPrefix) {
+        requireNonNull(words);
+        List<Person> matchingPersons = new ArrayList<>();
+        for (String word : words) {
+            matchingPersons.addAll(addressBook.getPersonsWithNameToken(word.trim()));
+        }
+        if (wordPrefix != null) {
+            matchingPersons.addAll(addressBook.getPersonsWithNameTokenPrefix(wordPrefix.trim()));
+        }
+        return matchingPersons;
     }
 
     @Override
     public void updateTagPersonList(Tag t) {
         requireNonNull(t);
+        Set<Person> taggedPersons = addressBook.getPersonsWithTag(t);
+        Predicate<Person> tagPredicate = person -> person.containsTag(t);
         if (currentEventTag != null) {
-            Predicate<Person> eventTagPredicate = person -> person.containsEventTag(currentEventTag);
-            Predicate<Person> normalTagPredicate = person -> person.containsTag(t);
-            filteredPersons.setPredicate(eventTagPredicate.and(normalTagPredicate));
+            EventTag eventTag = currentEventTag;
+            Set<Person> eventPersons = addressBook.getPersonsWithEventTag(eventTag);
+            setIndexedPredicate(person -> eventPersons.contains(person) && taggedPersons.contains(person),
+                    tagPredicate.and(person -> person.containsEventTag(eventTag)));
         } else {
-            filteredPersons.setPredicate(person -> person.containsTag(t));
+            setIndexedPredicate(taggedPersons::contains, tagPredicate);
         }
     }
 
@@ -203,7 +325,27 @@ public class ModelManager implements Model {
     public void updateEventTagPersonList(EventTag t) {
         requireNonNull(t);
         setCurrentEventTag(t);
-        filteredPersons.setPredicate(person -> person.containsEventTag(currentEventTag));
+        setIndexedPredicate(addressBook.getPersonsWithEventTag(t)::contains, person -> person.containsEventTag(t));
+    }
+
+    /**
+     * Filters all persons with {@code indexedPredicate}, which looks them up in the indexes of the address book, and
+     * tests the persons changed after that with {@code predicate}, which must match the same persons.
+     * The indexes cannot be read for a changed person, as the filtered list is told of a change before they are.
+     */
+    private void setIndexedPredicate(Predicate<Person> indexedPredicate, Predicate<Person> predicate) {
+        IndexedPredicate filter = new IndexedPredicate(indexedPredicate, predicate);
+        filteredPersons.setPredicate(filter);
+        filter.isFilteringAll = false;
+    }
+
+    private static boolean isInAny(List<Set<Person>> personSets, Person person) {
+        for (Set<Person> persons : personSets) {
+            if (persons.contains(person)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -247,4 +389,28 @@ public class ModelManager implements Model {
         return addressBook.getEventTagList();
     }
 
+    @Override
+    public ObservableList<EventTag> getSortedEventTagList() {
+        return sortedEventTags;
+    }
+
+    /**
+     * Tests persons with a predicate that reads the indexes of the address book while all persons are filtered, and
+     * with an equivalent predicate on the details of the person after that.
+     */
+    private static class IndexedPredicate implements Predicate<Person> {
+        private final Predicate<Person> indexedPredicate;
+        private final Predicate<Person> predicate;
+        private boolean isFilteringAll = true;
+
+        IndexedPredicate(Predicate<Person> indexedPredicate, Predicate<Person> predicate) {
+            this.indexedPredicate = indexedPredicate;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return isFilteringAll ? indexedPredicate.test(person) : predicate.test(person);
+        }
+    }
 }
@@ -2,18 +2,18 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.EventTag;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
- * Guarantees: details are present and not null, field values are validated.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ * Changing the tags of a person creates a new person, which shares the unchanged tag set with this one.
  */
 public class Person {
 
@@ -24,20 +24,23 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<EventTag> eventTags = new HashSet<>();
+    private final TagSet<Tag> tags;
+    private final TagSet<EventTag> eventTags;
+
+    // 0 until first computed
+    private int hash;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Set<EventTag> eventTags) {
-        requireAllNonNull(name, phone, email, address, tags);
+        requireAllNonNull(name, phone, email, address, tags, eventTags);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.eventTags.addAll(eventTags);
+        this.tags = TagSet.of(tags);
+        this.eventTags = TagSet.of(eventTags);
     }
 
     public Name getName() {
@@ -57,19 +60,19 @@ public class Person {
     }
 
     /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable tag set, iterated in order of tag name, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
-     * Returns an immutable event tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable event tag set, iterated in order of tag name, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
      */
     public Set<EventTag> getEventTags() {
-        return Collections.unmodifiableSet(eventTags);
+        return eventTags;
     }
 
     /**
@@ -99,37 +102,34 @@ public class Person {
     }
 
     /**
-     * Removes a tag from the Person if it exists in the tags for this Person.
+     * Returns a person with the details of this person and the given tags and event tags added, which is this person
+     * if it already has all of them.
      */
-    public void removeTag(Tag key) {
-        if (this.containsTag(key)) {
-            tags.remove(key);
-        }
+    public Person withAddedTags(Set<Tag> tagsToAdd, Set<EventTag> eventTagsToAdd) {
+        return withTags(tags.with(tagsToAdd), eventTags.with(eventTagsToAdd));
     }
 
     /**
-     * Adds an event tag to the Person.
-     *
-     * @param eventTags The event tags to be added.
+     * Returns a person with the details of this person and the tag with the name of {@code key} removed, which is
+     * this person if it has no such tag.
      */
-    public void addEventTags(Set<EventTag> eventTags) {
-        this.eventTags.addAll(eventTags);
+    public Person withoutTag(Tag key) {
+        return withTags(tags.withoutName(key.tagName), eventTags);
     }
 
     /**
-     * Adds a tag to the Person.
+     * Returns a person with the details of this person and the event tag with the name of {@code key} removed, which
+     * is this person if it has no such event tag.
      */
-    public void addTags(Set<Tag> tags) {
-        this.tags.addAll(tags);
+    public Person withoutEventTag(EventTag key) {
+        return withTags(tags, eventTags.withoutName(key.tagName));
     }
 
-    /**
-     * Removes a tag from the Person if it exists in the tags for this Person.
-     */
-    public void removeEventTag(EventTag key) {
-        if (this.containsEventTag(key)) {
-            eventTags.remove(key);
+    private Person withTags(TagSet<Tag> newTags, TagSet<EventTag> newEventTags) {
+        if (newTags == tags && newEventTags == eventTags) {
+            return this;
         }
+        return new Person(name, phone, email, address, newTags, newEventTags);
     }
 
     /**
@@ -171,8 +171,12 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        // persons are immutable, so the hash is only computed once
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, address, tags, eventTags);
+        }
+        return hash;
     }
 
     @Override
@@ -0,0 +1,423 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of persons kept in chunks of up to {@code CHUNK_SIZE} consecutive persons, so that copies of the list can
+ * share its chunks rather than copy every person.
+ * A chunk that is shared with a copy is copied by this list the next time this list changes it, so taking a copy or a
+ * frozen copy takes constant time, and each later change only copies the chunks it touches.
+ * The list can start out holding {@link PersonRecords}, and then only creates the person at a position when that
+ * position is first accessed.
+ */
+class PersonChunkList extends AbstractList<Person> implements RandomAccess {
+
+    static final int CHUNK_SIZE = 256;
+
+    private static final int NOT_A_RECORD = -1;
+    private static final int INITIAL_CHUNK_CAPACITY = 4;
+
+    // null if the list did not start out holding records
+    private final PersonRecords records;
+    // chunks[i] holds the persons from position chunkStarts[i] onwards, and is never empty
+    private Chunk[] chunks;
+    private int[] chunkStarts;
+    private int chunkCount;
+    private int size;
+    // chunks created by this list since it was last copied are owned by it, and are the only chunks it changes in place
+    private Object owner = new Object();
+    // true while chunks and chunkStarts may be read by a copy of this list
+    private boolean isSharingChunkArrays;
+
+    /**
+     * Creates an empty list.
+     */
+    PersonChunkList() {
+        records = null;
+        chunks = new Chunk[INITIAL_CHUNK_CAPACITY];
+        chunkStarts = new int[INITIAL_CHUNK_CAPACITY];
+    }
+
+    /**
+     * Creates a list of the persons in {@code records}, none of which are loaded yet.
+     */
+    PersonChunkList(PersonRecords records) {
+        requireNonNull(records);
+        this.records = records;
+        size = records.size();
+        chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new Chunk[Math.max(INITIAL_CHUNK_CAPACITY, chunkCount)];
+        chunkStarts = new int[chunks.length];
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = new Chunk(owner, true);
+            chunkStarts[i] = i * CHUNK_SIZE;
+            chunk.size = Math.min(CHUNK_SIZE, size - chunkStarts[i]);
+            for (int j = 0; j < chunk.size; j++) {
+                chunk.recordIds[j] = chunkStarts[i] + j;
+            }
+            chunks[i] = chunk;
+        }
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied} that shares its chunks until either list changes them.
+     * Persons that were loaded by {@code toBeCopied} are shared, and neither list loads the remaining records for the
+     * other.
+     */
+    PersonChunkList(PersonChunkList toBeCopied) {
+        toBeCopied.share();
+        records = toBeCopied.records;
+        chunks = toBeCopied.chunks;
+        chunkStarts = toBeCopied.chunkStarts;
+        chunkCount = toBeCopied.chunkCount;
+        size = toBeCopied.size;
+        isSharingChunkArrays = true;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the persons in this list, in order, which is not affected by later changes to
+     * this list. The copy shares the chunks of this list, so taking it does not create any persons.
+     * The copy can be read from any thread, as reading it does not change it; persons that have not been loaded are
+     * created from their records each time they are read from the copy.
+     */
+    List<Person> freeze() {
+        share();
+        return new FrozenPersonList(records, chunks, chunkStarts, chunkCount, size);
+    }
+
+    /**
+     * Returns true if the person at {@code index} has been created.
+     */
+    boolean isLoaded(int index) {
+        checkIndex(index, size);
+        int chunkIndex = chunkAt(chunkStarts, chunkCount, index);
+        return chunks[chunkIndex].persons[index - chunkStarts[chunkIndex]] != null;
+    }
+
+    @Override
+    public Person get(int index) {
+        checkIndex(index, size);
+        int chunkIndex = chunkAt(chunkStarts, chunkCount, index);
+        int position = index - chunkStarts[chunkIndex];
+        Person person = chunks[chunkIndex].persons[position];
+        if (person == null) {
+            Chunk chunk = writableChunk(chunkIndex);
+            person = records.get(chunk.recordIds[position]);
+            chunk.persons[position] = person;
+        }
+        return person;
+    }
+
+    @Override
+    public Person set(int index, Person person) {
+        requireNonNull(person);
+        Person old = get(index);
+        int chunkIndex = chunkAt(chunkStarts, chunkCount, index);
+        Chunk chunk = writableChunk(chunkIndex);
+        int position = index - chunkStarts[chunkIndex];
+        chunk.persons[position] = person;
+        if (chunk.recordIds != null) {
+            chunk.recordIds[position] = NOT_A_RECORD;
+        }
+        return old;
+    }
+
+    @Override
+    public void add(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size + 1);
+        int chunkIndex;
+        if (index == size) {
+            chunkIndex = chunkCount - 1;
+            if (chunkCount == 0 || chunks[chunkIndex].size == CHUNK_SIZE) {
+                chunkIndex = chunkCount;
+                insertChunk(chunkIndex, new Chunk(owner, false), size);
+            }
+        } else {
+            chunkIndex = chunkAt(chunkStarts, chunkCount, index);
+            if (chunks[chunkIndex].size == CHUNK_SIZE) {
+                splitChunk(chunkIndex);
+                if (index >= chunkStarts[chunkIndex + 1]) {
+                    chunkIndex++;
+                }
+            }
+        }
+
+        writableChunk(chunkIndex).insert(index - chunkStarts[chunkIndex], person);
+        moveChunkStarts(chunkIndex + 1, 1);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Person remove(int index) {
+        Person old = get(index);
+        int chunkIndex = chunkAt(chunkStarts, chunkCount, index);
+        Chunk chunk = writableChunk(chunkIndex);
+        chunk.remove(index - chunkStarts[chunkIndex]);
+        moveChunkStarts(chunkIndex + 1, -1);
+        size--;
+        modCount++;
+
+        if (chunk.size == 0) {
+            removeChunk(chunkIndex);
+        } else if (chunk.size < CHUNK_SIZE / 4) {
+            mergeWithNeighbour(chunkIndex);
+        }
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        chunks = new Chunk[INITIAL_CHUNK_CAPACITY];
+        chunkStarts = new int[INITIAL_CHUNK_CAPACITY];
+        chunkCount = 0;
+        size = 0;
+        isSharingChunkArrays = false;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of {@code o} in this list.
+     * The persons already created are searched by identity first, so that finding a person taken from this list
+     * does not create the persons that have not been accessed yet.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            Chunk chunk = chunks[i];
+            for (int j = 0; j < chunk.size; j++) {
+                if (chunk.persons[j] == o) {
+                    return chunkStarts[i] + j;
+                }
+            }
+        }
+        return super.indexOf(o);
+    }
+
+    /**
+     * Stops this list from changing any of its current chunks in place, as they are about to be shared.
+     */
+    private void share() {
+        owner = new Object();
+        isSharingChunkArrays = true;
+    }
+
+    /**
+     * Returns the chunk at {@code chunkIndex}, first replacing it with a copy owned by this list if it is shared.
+     */
+    private Chunk writableChunk(int chunkIndex) {
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk.owner != owner) {
+            ensureChunkArraysWritable(chunkCount);
+            chunk = chunk.copy(owner);
+            chunks[chunkIndex] = chunk;
+        }
+        return chunk;
+    }
+
+    /**
+     * Makes sure that chunks and chunkStarts are not shared and can hold at least {@code capacity} chunks.
+     */
+    private void ensureChunkArraysWritable(int capacity) {
+        if (isSharingChunkArrays || capacity > chunks.length) {
+            int newCapacity = capacity > chunks.length ? Math.max(capacity, chunks.length * 2) : chunks.length;
+            chunks = Arrays.copyOf(chunks, newCapacity);
+            chunkStarts = Arrays.copyOf(chunkStarts, newCapacity);
+            isSharingChunkArrays = false;
+        }
+    }
+
+    private void insertChunk(int chunkIndex, Chunk chunk, int start) {
+        ensureChunkArraysWritable(chunkCount + 1);
+        System.arraycopy(chunks, chunkIndex, chunks, chunkIndex + 1, chunkCount - chunkIndex);
+        System.arraycopy(chunkStarts, chunkIndex, chunkStarts, chunkIndex + 1, chunkCount - chunkIndex);
+        chunks[chunkIndex] = chunk;
+        chunkStarts[chunkIndex] = start;
+        chunkCount++;
+    }
+
+    private void removeChunk(int chunkIndex) {
+        ensureChunkArraysWritable(chunkCount);
+        System.arraycopy(chunks, chunkIndex + 1, chunks, chunkIndex, chunkCount - chunkIndex - 1);
+        System.arraycopy(chunkStarts, chunkIndex + 1, chunkStarts, chunkIndex, chunkCount - chunkIndex - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * Splits the full chunk at {@code chunkIndex} into two chunks of half the size.
+     */
+    private void splitChunk(int chunkIndex) {
+        Chunk chunk = writableChunk(chunkIndex);
+        Chunk secondHalf = new Chunk(owner, chunk.recordIds != null);
+        int half = chunk.size / 2;
+        secondHalf.append(chunk, half, chunk.size - half);
+        chunk.truncate(half);
+        insertChunk(chunkIndex + 1, secondHalf, chunkStarts[chunkIndex] + half);
+    }
+
+    /**
+     * Moves the persons of the small chunk at {@code chunkIndex} into one of its neighbours if they fit, so that
+     * removals do not leave behind many small chunks.
+     */
+    private void mergeWithNeighbour(int chunkIndex) {
+        if (chunkIndex + 1 < chunkCount && chunks[chunkIndex].size + chunks[chunkIndex + 1].size <= CHUNK_SIZE) {
+            writableChunk(chunkIndex).append(chunks[chunkIndex + 1], 0, chunks[chunkIndex + 1].size);
+            removeChunk(chunkIndex + 1);
+        } else if (chunkIndex > 0 && chunks[chunkIndex - 1].size + chunks[chunkIndex].size <= CHUNK_SIZE) {
+            writableChunk(chunkIndex - 1).append(chunks[chunkIndex], 0, chunks[chunkIndex].size);
+            removeChunk(chunkIndex);
+        }
+    }
+
+    /**
+     * Moves the start positions of the chunks from {@code fromChunkIndex} onwards by {@code offset}.
+     */
+    private void moveChunkStarts(int fromChunkIndex, int offset) {
+        if (fromChunkIndex >= chunkCount) {
+            return;
+        }
+        ensureChunkArraysWritable(chunkCount);
+        for (int i = fromChunkIndex; i < chunkCount; i++) {
+            chunkStarts[i] += offset;
+        }
+    }
+
+    /**
+     * Returns the index of the chunk holding the person at {@code index}.
+     */
+    private static int chunkAt(int[] chunkStarts, int chunkCount, int index) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (chunkStarts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Up to {@code CHUNK_SIZE} consecutive persons of a list.
+     * A chunk is only changed by the list that owns it, so a chunk shared with a copy is never changed.
+     */
+    private static class Chunk {
+        private final Object owner;
+        // persons[i] is null until the record recordIds[i] is loaded
+        private final Person[] persons = new Person[CHUNK_SIZE];
+        // null if the chunk was not created from records
+        private int[] recordIds;
+        private int size;
+
+        Chunk(Object owner, boolean holdsRecords) {
+            this.owner = owner;
+            recordIds = holdsRecords ? new int[CHUNK_SIZE] : null;
+        }
+
+        Chunk copy(Object newOwner) {
+            Chunk copy = new Chunk(newOwner, recordIds != null);
+            copy.append(this, 0, size);
+            return copy;
+        }
+
+        void insert(int position, Person person) {
+            System.arraycopy(persons, position, persons, position + 1, size - position);
+            persons[position] = person;
+            if (recordIds != null) {
+                System.arraycopy(recordIds, position, recordIds, position + 1, size - position);
+                recordIds[position] = NOT_A_RECORD;
+            }
+            size++;
+        }
+
+        void remove(int position) {
+            System.arraycopy(persons, position + 1, persons, position, size - position - 1);
+            if (recordIds != null) {
+                System.arraycopy(recordIds, position + 1, recordIds, position, size - position - 1);
+            }
+            size--;
+            persons[size] = null;
+        }
+
+        /**
+         * Appends {@code length} persons of {@code other} from {@code from} onwards to this chunk.
+         */
+        void append(Chunk other, int from, int length) {
+            System.arraycopy(other.persons, from, persons, size, length);
+            if (other.recordIds != null || recordIds != null) {
+                if (recordIds == null) {
+                    recordIds = new int[CHUNK_SIZE];
+                    Arrays.fill(recordIds, 0, size, NOT_A_RECORD);
+                }
+                if (other.recordIds != null) {
+                    System.arraycopy(other.recordIds, from, recordIds, size, length);
+                } else {
+                    Arrays.fill(recordIds, size, size + length, NOT_A_RECORD);
+                }
+            }
+            size += length;
+        }
+
+        void truncate(int newSize) {
+            Arrays.fill(persons, newSize, size, null);
+            size = newSize;
+        }
+    }
+
+    /**
+     * An unmodifiable copy of a {@code PersonChunkList}, sharing its chunks.
+     */
+    private static class FrozenPersonList extends AbstractList<Person> implements RandomAccess {
+        private final PersonRecords records;
+        private final Chunk[] chunks;
+        private final int[] chunkStarts;
+        private final int chunkCount;
+        private final int size;
+
+        FrozenPersonList(PersonRecords records, Chunk[] chunks, int[] chunkStarts, int chunkCount, int size) {
+            this.records = records;
+            this.chunks = chunks;
+            this.chunkStarts = chunkStarts;
+            this.chunkCount = chunkCount;
+            this.size = size;
+        }
+
+        @Override
+        public Person get(int index) {
+            checkIndex(index, size);
+            int chunkIndex = chunkAt(chunkStarts, chunkCount, index);
+            Chunk chunk = chunks[chunkIndex];
+            int position = index - chunkStarts[chunkIndex];
+            Person person = chunk.persons[position];
+            return person != null ? person : records.get(chunk.recordIds[position]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
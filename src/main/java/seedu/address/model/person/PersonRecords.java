@@ -0,0 +1,22 @@
+package seedu.address.model.person;
+
+/**
+ * A fixed sequence of persons kept outside the model, such as the records of a data file, from which each
+ * {@code Person} is only created when it is needed.
+ */
+public interface PersonRecords {
+
+    /**
+     * Returns the number of records.
+     */
+    int size();
+
+    /**
+     * Returns a new {@code Person} created from the record at {@code index}.
+     * Records may only be checked when they are read, so a record that does not hold a valid person fails here.
+     *
+     * @throws seedu.address.model.person.exceptions.InvalidPersonRecordException if the record does not hold a
+     *     valid person.
+     */
+    Person get(int index);
+}
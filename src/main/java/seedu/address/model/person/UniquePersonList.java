@@ -1,10 +1,17 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +25,72 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since person identity is defined by name, an index from each name to the position of its person is kept alongside
+ * the backing list, so that identity checks, lookups by name, replacements and removals do not need to scan the whole
+ * list.
+ * A list created from {@link PersonRecords} only creates each person when it is first accessed, and only builds its
+ * name index when an identity check or lookup by name first needs it, which is also when duplicate records are found.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PersonChunkList backingList;
+    private final ObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+    // null until first needed for a list created from records
+    private Map<Name, Integer> nameIndex;
+    // removals move the persons after them, so positions from here onwards are only brought up to date when needed
+    private int firstMovedPosition = Integer.MAX_VALUE;
+
+    public UniquePersonList() {
+        this(new PersonChunkList(), new HashMap<>());
+    }
+
+    /**
+     * Creates a list of the persons in {@code records}, which must not contain duplicate persons.
+     * Each person is only created when it is first accessed.
+     */
+    public UniquePersonList(PersonRecords records) {
+        this(new PersonChunkList(records), null);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     * Persons of {@code toBeCopied} that have not been created yet are not created by copying.
+     */
+    public UniquePersonList(UniquePersonList toBeCopied) {
+        this(new PersonChunkList(toBeCopied.backingList),
+                toBeCopied.nameIndex == null ? null : new HashMap<>(toBeCopied.nameIndex));
+        if (nameIndex != null) {
+            firstMovedPosition = toBeCopied.firstMovedPosition;
+        }
+    }
+
+    private UniquePersonList(PersonChunkList backingList, Map<Name, Integer> nameIndex) {
+        this.backingList = backingList;
+        this.nameIndex = nameIndex;
+        internalList = FXCollections.observableList(backingList);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return getNameIndex().containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with the given {@code name}, or null if no such person is in the list.
+     */
+    public Person get(Name name) {
+        requireNonNull(name);
+        int position = positionOf(name);
+        return position == -1 ? null : backingList.get(position);
     }
 
     /**
@@ -46,6 +103,30 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), backingList.size() - 1);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, notifying listeners of the list once.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * If either is not the case, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        for (Person person : toAdd) {
+            if (contains(person)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int position = backingList.size();
+        internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            nameIndex.put(person.getName(), position++);
+        }
     }
 
     /**
@@ -56,7 +137,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +147,58 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        if (nameIndex != null) {
+            nameIndex.remove(target.getName());
+            nameIndex.put(editedPerson.getName(), index);
+        }
+    }
+
+    /**
+     * Replaces each person of {@code targets} in the list with the person at the same position of
+     * {@code editedPersons}, which must have the same identity.
+     * Every person of {@code targets} must be in the list. If not, the list is left unchanged.
+     */
+    public void setAll(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size());
+        int[] positions = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            Person target = targets.get(i);
+            checkArgument(target.isSamePerson(editedPersons.get(i)));
+            positions[i] = positionOf(target.getName());
+            if (positions[i] == -1 || backingList.get(positions[i]) != target) {
+                throw new PersonNotFoundException();
+            }
+        }
+
+        // persons keep their identity, so their names stay at the same positions
+        for (int i = 0; i < positions.length; i++) {
+            internalList.set(positions[i], editedPersons.get(i));
+        }
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, notifying listeners of the list once.
+     * Every person of {@code toRemove} must be in the list. If not, the list is left unchanged.
+     */
+    public void removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        int firstRemovedPosition = Integer.MAX_VALUE;
+        for (Person person : toRemove) {
+            int position = positionOf(person.getName());
+            if (position == -1 || backingList.get(position) != person) {
+                throw new PersonNotFoundException();
+            }
+            removed.add(person);
+            firstRemovedPosition = Math.min(firstRemovedPosition, position);
+        }
+
+        internalList.removeAll(removed);
+        for (Person person : removed) {
+            nameIndex.remove(person.getName());
+        }
+        firstMovedPosition = Math.min(firstMovedPosition, firstRemovedPosition);
     }
 
     /**
@@ -74,13 +207,27 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        if (nameIndex != null) {
+            nameIndex.remove(toRemove.getName());
+            firstMovedPosition = Math.min(firstMovedPosition, index);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        replacement.getNameIndex();
+        replacement.updateMovedPositions();
+        nameIndex = new HashMap<>(replacement.nameIndex);
+        firstMovedPosition = Integer.MAX_VALUE;
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +241,24 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        nameIndex = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            nameIndex.put(persons.get(i).getName(), i);
+        }
+        firstMovedPosition = Integer.MAX_VALUE;
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns an unmodifiable copy of the persons in the list, in order, which is not affected by later changes to
+     * the list and can be read from any thread.
+     * The copy shares the persons with the list rather than copying them, so taking it takes constant time, and
+     * persons that have not been created yet are not created by taking it.
+     */
+    public List<Person> snapshot() {
+        return backingList.freeze();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,15 +296,71 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the index of positions by name, building it first if it has not been built yet.
+     * Records are not checked for duplicates up front, so building the index is where duplicates are found.
+     *
+     * @throws DuplicatePersonException if the list was created from records holding duplicate persons.
+     */
+    private Map<Name, Integer> getNameIndex() {
+        if (nameIndex == null) {
+            Map<Name, Integer> builtIndex = new HashMap<>();
+            for (int i = 0; i < backingList.size(); i++) {
+                if (builtIndex.put(backingList.get(i).getName(), i) != null) {
+                    throw new DuplicatePersonException();
+                }
+            }
+            nameIndex = builtIndex;
+            firstMovedPosition = Integer.MAX_VALUE;
+        }
+        return nameIndex;
+    }
+
+    /**
+     * Returns the position of the person named {@code name}, or -1 if there is no such person in the list.
+     */
+    private int positionOf(Name name) {
+        Integer position = getNameIndex().get(name);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= firstMovedPosition) {
+            updateMovedPositions();
+            position = nameIndex.get(name);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is no such person in the list.
+     */
+    private int indexOf(Person person) {
+        if (nameIndex == null) {
+            // finding the person by position rather than by name keeps edits from building the name index
+            return backingList.indexOf(person);
+        }
+        int position = positionOf(person.getName());
+        return position != -1 && backingList.get(position).equals(person) ? position : -1;
+    }
+
+    /**
+     * Brings the positions of the persons moved by removals up to date.
+     */
+    private void updateMovedPositions() {
+        for (int i = firstMovedPosition; i < backingList.size(); i++) {
+            nameIndex.put(backingList.get(i).getName(), i);
+        }
+        firstMovedPosition = Integer.MAX_VALUE;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,10 @@
+package seedu.address.model.person.exceptions;
+
+/**
+ * Signals that a person record kept outside the model, such as a record of a data file, does not hold a valid person.
+ */
+public class InvalidPersonRecordException extends RuntimeException {
+    public InvalidPersonRecordException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
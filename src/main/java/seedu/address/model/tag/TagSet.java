@@ -0,0 +1,204 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, held in an array sorted by tag name, so that it takes little more memory than the tags
+ * themselves and is iterated in the same order wherever it was created.
+ * Sets are shared rather than copied: creating a set from a {@code TagSet} returns that set, all empty sets are the
+ * same instance, and adding or removing tags returns the same set if nothing changes.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet<T extends Tag> extends AbstractSet<T> {
+
+    private static final TagSet<?> EMPTY = new TagSet<>(new Tag[0]);
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+    // 0 until first computed
+    private int hash;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Tag> TagSet<T> empty() {
+        return (TagSet<T>) EMPTY;
+    }
+
+    /**
+     * Returns a set of the tags in {@code tags}, which is {@code tags} itself if it is already a {@code TagSet}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Tag> TagSet<T> of(Collection<? extends T> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet<T>) tags;
+        }
+        if (tags.isEmpty()) {
+            return empty();
+        }
+
+        return fromUnsorted(tags.toArray(new Tag[0]));
+    }
+
+    /**
+     * Returns a set of the tags in {@code sortedTags}, which is sorted in place first.
+     */
+    private static <T extends Tag> TagSet<T> fromUnsorted(Tag[] sortedTags) {
+        for (Tag tag : sortedTags) {
+            requireNonNull(tag);
+        }
+        Arrays.sort(sortedTags, BY_NAME);
+        int size = 0;
+        for (Tag tag : sortedTags) {
+            if (indexOf(sortedTags, size, tag) < 0) {
+                sortedTags[size++] = tag;
+            }
+        }
+        return new TagSet<>(size == sortedTags.length ? sortedTags : Arrays.copyOf(sortedTags, size));
+    }
+
+    /**
+     * Returns a set of the tags in this set and in {@code toAdd}, which is this set if it already has all of them.
+     */
+    public TagSet<T> with(Collection<? extends T> toAdd) {
+        requireNonNull(toAdd);
+        if (containsAll(toAdd)) {
+            return this;
+        }
+        Tag[] allTags = Arrays.copyOf(tags, tags.length + toAdd.size());
+        int i = tags.length;
+        for (T tag : toAdd) {
+            allTags[i++] = tag;
+        }
+        return fromUnsorted(allTags);
+    }
+
+    /**
+     * Returns a set of the tags in this set that are not named {@code tagName}, which is this set if it has no such
+     * tag.
+     */
+    public TagSet<T> withoutName(String tagName) {
+        requireNonNull(tagName);
+        int remaining = 0;
+        Tag[] remainingTags = new Tag[tags.length];
+        for (Tag tag : tags) {
+            if (!tag.tagName.equals(tagName)) {
+                remainingTags[remaining++] = tag;
+            }
+        }
+        if (remaining == tags.length) {
+            return this;
+        }
+        return remaining == 0 ? empty() : new TagSet<>(Arrays.copyOf(remainingTags, remaining));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && indexOf(tags, tags.length, (Tag) o) >= 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (next >= tags.length) {
+                    throw new NoSuchElementException();
+                }
+                return (T) tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(T tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = super.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the index of a tag equal to {@code tag} among the first {@code size} tags of {@code sortedTags}, which
+     * are sorted by name, or a negative number if there is none.
+     */
+    private static int indexOf(Tag[] sortedTags, int size, Tag tag) {
+        int index = Arrays.binarySearch(sortedTags, 0, size, tag, BY_NAME);
+        if (index < 0) {
+            return -1;
+        }
+        // tags of the same name that are not equal, such as event tags with other details, are next to each other
+        int first = index;
+        while (first > 0 && sortedTags[first - 1].tagName.equals(tag.tagName)) {
+            first--;
+        }
+        for (int i = first; i < size && sortedTags[i].tagName.equals(tag.tagName); i++) {
+            if (sortedTags[i].equals(tag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
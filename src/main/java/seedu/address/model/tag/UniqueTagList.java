@@ -3,8 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -14,11 +16,13 @@ import seedu.address.model.tag.exceptions.TagNotFoundException;
 
 /**
  * Represents a list of unique tags.
- * A UniqueTagList ensures that no duplicate tags are stored.
+ * A UniqueTagList ensures that no duplicate tags are stored, and that no two tags share the same tag name.
+ * A tag-name-keyed index is kept alongside the backing set so that lookups by name do not need to scan the set.
  */
 public class UniqueTagList<T extends Tag> implements Iterable<T> {
 
     private final ObservableSet<T> internalSet = FXCollections.observableSet();
+    private final Map<String, T> nameIndex = new HashMap<>();
 
     /**
      * Constructs an empty UniqueTagList.
@@ -30,7 +34,7 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
      * @param tags A list of tags.
      */
     public UniqueTagList(Set<T> tags) {
-        internalSet.addAll(tags);
+        setTags(tags);
     }
 
     /**
@@ -38,7 +42,8 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalSet.stream().anyMatch(tag -> tag.equals(toCheck));
+        T tag = nameIndex.get(toCheck.tagName);
+        return tag != null && tag.equals(toCheck);
     }
 
     /**
@@ -46,19 +51,20 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
      */
     public boolean contains(String toCheck) {
         requireNonNull(toCheck);
-        return internalSet.stream().anyMatch(tag -> tag.tagName.equals(toCheck));
+        return nameIndex.containsKey(toCheck);
     }
 
     /**
      * Adds a tag to the list.
-     * The tag must not already exist in the list.
+     * The tag must not already exist in the list, and no other tag in the list may have the same tag name.
      */
     public void add(T toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd.tagName)) {
             throw new DuplicateTagException();
         }
         internalSet.add(toAdd);
+        nameIndex.put(toAdd.tagName, toAdd);
     }
 
     /**
@@ -69,16 +75,18 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
     public void replace(T oldTag, T newTag) {
         requireAllNonNull(oldTag, newTag);
 
-        if (!internalSet.contains(oldTag)) {
+        if (!contains(oldTag)) {
             throw new TagNotFoundException();
         }
 
-        if (!oldTag.isSameTag(newTag) && contains(newTag)) {
+        if (!oldTag.isSameTag(newTag) && contains(newTag.tagName)) {
             throw new DuplicateTagException();
         }
 
         internalSet.remove(oldTag);
+        nameIndex.remove(oldTag.tagName);
         internalSet.add(newTag);
+        nameIndex.put(newTag.tagName, newTag);
     }
 
     /**
@@ -90,6 +98,7 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
         if (!internalSet.remove(toRemove)) {
             throw new TagNotFoundException();
         }
+        nameIndex.remove(toRemove.tagName);
     }
 
     /**
@@ -98,10 +107,13 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
      */
     public void remove(String toRemove) {
         requireNonNull(toRemove);
-        if (!internalSet.removeIf(tag -> tag.tagName.equals(toRemove))) {
+        T tag = nameIndex.remove(toRemove);
+        if (tag == null) {
             throw new TagNotFoundException();
         }
+        internalSet.remove(tag);
     }
+
     /**
      * Replaces all tags in this list with the tags from the replacement list.
      * @param replacement The replacement UniqueTagList.
@@ -109,17 +121,27 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
     public void setTags(UniqueTagList<T> replacement) {
         requireNonNull(replacement);
         internalSet.clear();
+        nameIndex.clear();
         internalSet.addAll(replacement.internalSet);
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
      * Replaces the tags in the list with the given set of tags.
+     * {@code tags} must not contain two tags with the same tag name.
      * @param tags The set of tags to replace the current tags.
      */
     public void setTags(Set<T> tags) {
         requireAllNonNull(tags);
+        if (!tagsAreUnique(tags)) {
+            throw new DuplicateTagException();
+        }
         internalSet.clear();
+        nameIndex.clear();
         internalSet.addAll(tags);
+        for (T tag : tags) {
+            nameIndex.put(tag.tagName, tag);
+        }
     }
 
     /**
@@ -130,12 +152,8 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
      */
     public EventTag getEventTag(String eventTagName) {
         requireNonNull(eventTagName);
-        for (T tag : internalSet) {
-            if (tag instanceof EventTag && tag.tagName.equals(eventTagName)) {
-                return (EventTag) tag;
-            }
-        }
-        return null;
+        T tag = nameIndex.get(eventTagName);
+        return tag instanceof EventTag ? (EventTag) tag : null;
     }
 
     /**
@@ -146,13 +164,13 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
      */
     public EventTag removeEvent(String eventTagName) {
         requireNonNull(eventTagName);
-        for (T tag : internalSet) {
-            if (tag instanceof EventTag && tag.tagName.equals(eventTagName)) {
-                internalSet.removeIf(t -> t.equals(tag));
-                return (EventTag) tag;
-            }
+        T tag = nameIndex.get(eventTagName);
+        if (!(tag instanceof EventTag)) {
+            return null;
         }
-        return null;
+        nameIndex.remove(eventTagName);
+        internalSet.remove(tag);
+        return (EventTag) tag;
     }
 
     /**
@@ -188,16 +206,16 @@ public class UniqueTagList<T extends Tag> implements Iterable<T> {
     }
 
     /**
-     * Returns true if {@code tags} contains only unique tags.
+     * Returns true if {@code tags} contains only tags with unique tag names.
      */
     private boolean tagsAreUnique(Set<T> tags) {
-        Set<T> uniqueTags = new HashSet<>();
+        Set<String> uniqueTagNames = new HashSet<>();
         for (T tag : tags) {
-            if (!uniqueTags.add(tag)) {
-                return false; // Duplicate tag found
+            if (!uniqueTagNames.add(tag.tagName)) {
+                return false; // Duplicate tag name found
             }
         }
-        return true; // No duplicate tags found
+        return true; // No duplicate tag names found
     }
 
 }
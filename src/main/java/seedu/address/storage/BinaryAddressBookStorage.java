@@ -0,0 +1,24 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * Loading a large address book from a binary snapshot is much faster than from JSON, at the cost of the file no
+ * longer being human-readable. Data files in the JSON format are still read, and are converted on the next save.
+ */
+public class BinaryAddressBookStorage extends JsonAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath, Path backupFilePath) throws IOException {
+        BinaryAddressBookStream.saveAddressBook(addressBook, filePath, backupFilePath);
+    }
+
+}
@@ -0,0 +1,577 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecords;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.InvalidPersonRecordException;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact binary snapshot format.
+ * Every distinct tag and event tag is stored once in a dictionary, and persons refer to them by their index in it,
+ * so each tag is only created and validated once however many persons hold it.
+ * <p>
+ * Layout: magic number, version, tag dictionary, event tag dictionary, persons, then the CRC32 of everything before
+ * it. Each dictionary starts with its size and the number of its leading entries that are in the address book's own
+ * tag list. Strings are stored as their UTF-8 length followed by their bytes, with a length of -1 for null.
+ */
+class BinaryAddressBookStream {
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted.";
+    public static final String MESSAGE_INVALID_TAG_ID = "Person refers to a tag that does not exist.";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Binary address book file is too large to be mapped.";
+
+    // "ABKB" in ASCII
+    private static final int MAGIC = 0x41424B42;
+    private static final int VERSION = 1;
+    // magic number, version and the sizes of the three lists
+    private static final int HEADER_SIZE = 7 * Integer.BYTES;
+    // name, phone, email and address
+    private static final int PERSON_STRING_FIELDS = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStream.class);
+
+    private BinaryAddressBookStream() {} // prevents instantiation
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary address book file.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the address book stored in the binary file at {@code filePath}.
+     * The whole file is read into memory at once, so that its checksum is computed in a single pass and values are
+     * decoded straight from the buffer.
+     *
+     * @throws IOException if the file could not be read, is not in the expected format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        checkHeaderAndChecksum(in);
+
+        try {
+            Dictionaries dictionaries = new Dictionaries(in);
+            int personCount = readCount(in);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in, dictionaries.tags, dictionaries.eventTags));
+            }
+            if (in.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            return JsonSerializableAddressBook.toModelType(dictionaries.getTagList(), dictionaries.getEventTagList(),
+                    persons);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Maps the binary file at {@code filePath} into memory, and returns its person records, from which each person is
+     * only created when it is first accessed.
+     * Only the header, the tags and the layout of the person records are checked up front, so that mapping takes
+     * time in proportion to the number of records rather than to the size of the file. The checksum is not checked,
+     * and the fields of a person are only checked when the person is created.
+     *
+     * @throws IOException if the file could not be read, is not in the expected format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated by the tags.
+     */
+    static MappedPersonRecords mapPersonRecords(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer in = map(filePath);
+        checkHeader(in);
+
+        try {
+            Dictionaries dictionaries = new Dictionaries(in);
+            int[] offsets = new int[readCount(in)];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = in.position();
+                skipPerson(in, dictionaries.tags.length, dictionaries.eventTags.length);
+            }
+            if (in.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            return new MappedPersonRecords(filePath, in, offsets, dictionaries);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    private static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_FILE_TOO_LARGE);
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Copies the file at {@code filePath} to a temporary file and maps the copy into memory.
+     * The copy is deleted once it is mapped, or when the application exits where a mapped file cannot be deleted.
+     */
+    private static ByteBuffer mapCopy(Path filePath) throws IOException {
+        Path copyPath = Files.createTempFile("addressbook", ".bin");
+        try {
+            Files.copy(filePath, copyPath, StandardCopyOption.REPLACE_EXISTING);
+            return map(copyPath);
+        } finally {
+            try {
+                Files.delete(copyPath);
+            } catch (IOException e) {
+                logger.fine("Mapped copy of the address book file will be deleted on exit: " + e);
+                copyPath.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Checks the magic number, version and checksum of the file content in {@code in}, leaving {@code in}
+     * positioned after the version and limited to the end of the values.
+     */
+    private static void checkHeaderAndChecksum(ByteBuffer in) throws IOException {
+        ByteBuffer checked = in.duplicate();
+        int checksumOffset = checkHeader(in);
+        long checksum = checked.getLong(checksumOffset);
+        checked.position(0).limit(checksumOffset);
+        CRC32 crc = new CRC32();
+        crc.update(checked);
+        if (checksum != crc.getValue()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Checks the magic number and version of the file content in {@code in}, leaving {@code in} positioned after the
+     * version and limited to the end of the values.
+     *
+     * @return the offset of the checksum, which follows the values.
+     */
+    private static int checkHeader(ByteBuffer in) throws IOException {
+        if (in.remaining() < HEADER_SIZE + Long.BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        if (in.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int checksumOffset = in.limit() - Long.BYTES;
+        // the values end where the checksum starts
+        in.limit(checksumOffset);
+        return checksumOffset;
+    }
+
+    /**
+     * Writes {@code addressBook} to the binary file at {@code filePath}, atomically replacing it if it exists.
+     *
+     * @param backupFilePath if not null, the previous content of {@code filePath} is moved here.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, Path backupFilePath)
+            throws IOException {
+        FileUtil.writeAtomically(filePath, backupFilePath, out -> writeAddressBook(addressBook, out));
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        Map<EventTag, Integer> eventTagIds = new LinkedHashMap<>();
+        for (Tag tag : addressBook.getTagList()) {
+            tagIds.putIfAbsent(tag, tagIds.size());
+        }
+        for (EventTag eventTag : addressBook.getEventTagList()) {
+            eventTagIds.putIfAbsent(eventTag, eventTagIds.size());
+        }
+        int tagListSize = tagIds.size();
+        int eventTagListSize = eventTagIds.size();
+        // persons may hold tags that are not in the tag lists, such as older versions of an edited event tag
+        for (Person person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                tagIds.putIfAbsent(tag, tagIds.size());
+            }
+            for (EventTag eventTag : person.getEventTags()) {
+                eventTagIds.putIfAbsent(eventTag, eventTagIds.size());
+            }
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+
+        data.writeInt(tagIds.size());
+        data.writeInt(tagListSize);
+        for (Tag tag : tagIds.keySet()) {
+            writeString(data, tag.tagName);
+        }
+
+        data.writeInt(eventTagIds.size());
+        data.writeInt(eventTagListSize);
+        for (EventTag eventTag : eventTagIds.keySet()) {
+            writeString(data, eventTag.tagName);
+            writeString(data, eventTag.description);
+            writeDateTime(data, eventTag.startDate);
+            writeDateTime(data, eventTag.endDate);
+        }
+
+        data.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            writeIds(data, person.getTags(), tagIds);
+            writeIds(data, person.getEventTags(), eventTagIds);
+        }
+
+        data.flush();
+        data.writeLong(checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    private static <T> void writeIds(DataOutputStream data, Set<T> values, Map<T, Integer> ids) throws IOException {
+        data.writeInt(values.size());
+        for (T value : values) {
+            data.writeInt(ids.get(value));
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static void writeDateTime(DataOutputStream data, LocalDateTime value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            data.writeInt(value.getNano());
+        }
+    }
+
+    private static Tag readTag(ByteBuffer in) throws IOException, IllegalValueException {
+        String tagName = readNonNullString(in);
+        try {
+            return new Tag(tagName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static EventTag readEventTag(ByteBuffer in) throws IOException, IllegalValueException {
+        String tagName = readNonNullString(in);
+        String description = readString(in);
+        LocalDateTime startDate = readDateTime(in);
+        LocalDateTime endDate = readDateTime(in);
+        try {
+            return new EventTag(tagName, description, startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a person, checking each field once through the constructor of its type.
+     */
+    private static Person readPerson(ByteBuffer in, Tag[] tags, EventTag[] eventTags)
+            throws IOException, IllegalValueException {
+        String name = readNonNullString(in);
+        String phone = readNonNullString(in);
+        String email = readNonNullString(in);
+        String address = readNonNullString(in);
+        Set<Tag> personTags = readReferences(in, tags);
+        Set<EventTag> personEventTags = readReferences(in, eventTags);
+
+        try {
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                    personTags, personEventTags);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static <T> Set<T> readReferences(ByteBuffer in, T[] dictionary) throws IOException {
+        int count = readCount(in);
+        Set<T> values = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            values.add(dictionary[readId(in, dictionary.length)]);
+        }
+        return values;
+    }
+
+    /**
+     * Reads the id of an entry of a dictionary of {@code dictionarySize} entries.
+     * An id outside the dictionary is a sign of a corrupted file, as is any other inconsistency in the layout.
+     */
+    private static int readId(ByteBuffer in, int dictionarySize) throws IOException {
+        int id = in.getInt();
+        if (id < 0 || id >= dictionarySize) {
+            throw new IOException(MESSAGE_INVALID_TAG_ID);
+        }
+        return id;
+    }
+
+    /**
+     * Reads the size of a list. Every element takes up at least 4 bytes, which bounds the size of a list in an
+     * inconsistent file by the bytes left to read.
+     */
+    private static int readCount(ByteBuffer in) throws IOException {
+        return readCount(in, in.remaining() / Integer.BYTES);
+    }
+
+    private static int readCount(ByteBuffer in, int maxCount) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || count > maxCount) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = in.getInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Moves {@code in} past a person record, checking its layout and the tags it refers to without creating it.
+     */
+    private static void skipPerson(ByteBuffer in, int tagCount, int eventTagCount) throws IOException {
+        for (int i = 0; i < PERSON_STRING_FIELDS; i++) {
+            int length = in.getInt();
+            if (length < 0 || length > in.remaining()) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            in.position(in.position() + length);
+        }
+        skipReferences(in, tagCount);
+        skipReferences(in, eventTagCount);
+    }
+
+    private static void skipReferences(ByteBuffer in, int dictionarySize) throws IOException {
+        int count = readCount(in);
+        for (int i = 0; i < count; i++) {
+            readId(in, dictionarySize);
+        }
+    }
+
+    private static String readNonNullString(ByteBuffer in) throws IOException {
+        String value = readString(in);
+        if (value == null) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return value;
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) throws IOException {
+        byte present = in.get();
+        if (present == 0) {
+            return null;
+        }
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * The tag and event tag dictionaries of a binary address book file.
+     */
+    private static class Dictionaries {
+        private final Tag[] tags;
+        private final int tagListSize;
+        private final EventTag[] eventTags;
+        private final int eventTagListSize;
+
+        /**
+         * Reads the dictionaries at the position of {@code in}.
+         */
+        Dictionaries(ByteBuffer in) throws IOException, IllegalValueException {
+            tags = new Tag[readCount(in)];
+            tagListSize = readCount(in, tags.length);
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = readTag(in);
+            }
+
+            eventTags = new EventTag[readCount(in)];
+            eventTagListSize = readCount(in, eventTags.length);
+            for (int i = 0; i < eventTags.length; i++) {
+                eventTags[i] = readEventTag(in);
+            }
+        }
+
+        /**
+         * Returns the tags in the address book's own tag list.
+         */
+        List<Tag> getTagList() {
+            return Arrays.asList(tags).subList(0, tagListSize);
+        }
+
+        /**
+         * Returns the event tags in the address book's own event tag list.
+         */
+        List<EventTag> getEventTagList() {
+            return Arrays.asList(eventTags).subList(0, eventTagListSize);
+        }
+    }
+
+    /**
+     * The person records of a mapped binary address book file, whose fields are only checked when each person is
+     * created.
+     * Records can be read from several threads at once, as each read works on its own view of the mapped file.
+     */
+    static class MappedPersonRecords implements PersonRecords {
+        private final Path filePath;
+        private final int[] offsets;
+        private final Dictionaries dictionaries;
+        // the original file until mapCopy() is called, and then a copy of it
+        private volatile ByteBuffer content;
+        private boolean isCopyMapped;
+
+        private MappedPersonRecords(Path filePath, ByteBuffer content, int[] offsets, Dictionaries dictionaries) {
+            this.filePath = filePath;
+            this.content = content.duplicate();
+            this.offsets = offsets;
+            this.dictionaries = dictionaries;
+        }
+
+        /**
+         * Returns a new address book of these records, with the tags of the file.
+         *
+         * @throws IllegalValueException if the tag lists of the file contain duplicates.
+         */
+        AddressBook toAddressBook() throws IllegalValueException {
+            AddressBook addressBook = new AddressBook(this);
+            for (Tag tag : dictionaries.getTagList()) {
+                if (addressBook.hasTag(tag)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TAG);
+                }
+                addressBook.addTag(tag);
+            }
+            for (EventTag eventTag : dictionaries.getEventTagList()) {
+                if (addressBook.hasEventTag(eventTag.tagName)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT_TAG);
+                }
+                addressBook.addEventTag(eventTag);
+            }
+            // the tags of persons that are not in the tag lists, which reading every person would have added
+            for (Tag tag : dictionaries.tags) {
+                if (!addressBook.hasTag(tag)) {
+                    addressBook.addTag(tag);
+                }
+            }
+            for (EventTag eventTag : dictionaries.eventTags) {
+                if (!addressBook.hasEventTag(eventTag.tagName)) {
+                    addressBook.addEventTag(eventTag);
+                }
+            }
+            return addressBook;
+        }
+
+        /**
+         * Returns true if the records are still read from the file at {@code path} itself, rather than from a copy.
+         */
+        synchronized boolean isMapping(Path path) {
+            return !isCopyMapped && filePath.equals(path);
+        }
+
+        /**
+         * Reads the records from a copy of the file from now on, so that the file can be replaced.
+         * Some platforms do not allow a mapped file to be replaced, and the mapping of the file itself is only released
+         * once it is garbage collected.
+         */
+        synchronized void mapCopy() throws IOException {
+            if (isCopyMapped) {
+                return;
+            }
+            ByteBuffer copy = BinaryAddressBookStream.mapCopy(filePath);
+            copy.limit(content.limit());
+            content = copy;
+            isCopyMapped = true;
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+
+        @Override
+        public Person get(int index) {
+            ByteBuffer in = content.duplicate();
+            in.position(offsets[index]);
+            try {
+                return readPerson(in, dictionaries.tags, dictionaries.eventTags);
+            } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+                throw new InvalidPersonRecordException("Person record " + index + " of " + filePath + " is invalid: "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file together with a journal of the changes made
+ * since the snapshot was taken.
+ * Each save only appends the changes since the previous save to the journal, one {@link JsonAdaptedJournalEntry}
+ * per line, so its cost grows with the size of the change rather than the size of the address book. The changes are
+ * those recorded by the address book itself, see {@link AddressBookSnapshot#getChangesSince(AddressBookSnapshot)}.
+ * Once the journal holds enough entries, it is compacted into a new snapshot, written by a
+ * {@link JsonAddressBookStorage} or one of its subclasses.
+ * Each append is forced to the disk before the save returns. If the snapshot or the journal cannot be read, they are
+ * kept with the {@link #CORRUPT_FILE_SUFFIX} rather than replaced by the next save, so that their data can still be
+ * recovered by hand.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The address book as last read from or saved to filePath, which the next save is compared against.
+    // It is null until the first read or save, in which case the next save writes a full snapshot.
+    private AddressBookSnapshot savedAddressBook;
+    private int journalEntryCount;
+    // The length of the complete entries of a journal whose last entry was cut short, to which it is cut back before
+    // the next append, or -1 if the journal was not cut short.
+    private long completeJournalLength = -1;
+    // Whether the last entry of the journal lacks its line break, which is added before the next append.
+    private boolean isJournalLineBreakMissing;
+    // Whether the last read of filePath failed, in which case its files are moved aside before the next save.
+    private boolean isLoadFailed;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the snapshot at {@code filePath} that compacts its journal
+     * after the default number of entries.
+     */
+    public JournalingAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the snapshot at {@code filePath} that compacts its journal
+     * once it holds {@code compactionThreshold} entries.
+     */
+    public JournalingAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that keeps its snapshot in {@code snapshotStorage}, in the format
+     * of that storage, and compacts its journal once it holds {@code compactionThreshold} entries.
+     */
+    public JournalingAddressBookStorage(JsonAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Loads the snapshot at {@code filePath} and replays its journal on top of it.
+     * The journal is read one entry at a time, so reading it does not hold the whole journal in memory.
+     * Returns {@code Optional.empty()} if neither the snapshot nor the journal is found.
+     * If loading from {@link #getAddressBookFilePath()} fails, the next save moves the snapshot and the journal to
+     * files with the {@link #CORRUPT_FILE_SUFFIX} instead of replacing them.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            return readSnapshotAndJournal(filePath);
+        } catch (DataLoadingException e) {
+            if (filePath.equals(this.filePath)) {
+                isLoadFailed = true;
+            }
+            throw e;
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readSnapshotAndJournal(Path filePath) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<AddressBook> snapshot = snapshotStorage.readModelAddressBook(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = snapshot.orElseGet(AddressBook::new);
+        ReplayedJournal replayedJournal;
+        try {
+            replayedJournal = replayJournal(journalFilePath, addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // a snapshot shares the persons of the address book, so this does not create persons not yet loaded
+            savedAddressBook = snapshotOf(addressBook);
+            journalEntryCount = replayedJournal.entryCount;
+            completeJournalLength = replayedJournal.isLastEntryIncomplete ? replayedJournal.completeLength : -1;
+            isJournalLineBreakMissing = replayedJournal.isLineBreakMissing;
+            isLoadFailed = false;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since it was last read or saved to the journal,
+     * compacting the journal into a new snapshot when it grows too long.
+     * The changes are taken from the changes recorded by the address book where they are known, which takes time in
+     * proportion to their number. Otherwise, such as on the first save after a read, the address book is compared
+     * with the last saved one.
+     * Saving to any path other than {@link #getAddressBookFilePath()} always writes a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        AddressBookSnapshot toSave = snapshotOf(addressBook);
+        if (savedAddressBook == null) {
+            // Nothing has been read from the journal, so it cannot be trusted to lead up to this address book.
+            if (isLoadFailed) {
+                moveAsideUnreadableFiles();
+            } else {
+                Files.deleteIfExists(getJournalFilePath(filePath));
+            }
+            writeSnapshot(toSave);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = getChanges(toSave);
+        if (entries.isEmpty()) {
+            savedAddressBook = toSave;
+            return;
+        }
+        repairJournal();
+        appendToJournal(entries);
+        journalEntryCount += entries.size();
+
+        if (journalEntryCount >= compactionThreshold) {
+            // Entries are idempotent, so a crash before the journal is deleted only replays changes already in
+            // the new snapshot.
+            writeSnapshot(toSave);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+        } else {
+            savedAddressBook = toSave;
+        }
+    }
+
+    /**
+     * Compacts the journal into a new snapshot if it holds any entries, so that the next read does not have to
+     * replay them. This is meant for when no more saves are expected, such as when the app stops, as it rewrites
+     * the whole snapshot.
+     *
+     * @throws IOException if there was an error writing the snapshot or deleting the journal.
+     */
+    public synchronized void compactJournal() throws IOException {
+        boolean isJournalIncomplete = completeJournalLength >= 0 || isJournalLineBreakMissing;
+        if (savedAddressBook == null || (journalEntryCount == 0 && !isJournalIncomplete)) {
+            return;
+        }
+
+        writeSnapshot(savedAddressBook);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Moves the snapshot and the journal that could not be read to files with the {@link #CORRUPT_FILE_SUFFIX},
+     * replacing those kept after an earlier failure.
+     */
+    private void moveAsideUnreadableFiles() throws IOException {
+        for (Path unreadableFilePath : List.of(filePath, getJournalFilePath(filePath))) {
+            if (!Files.exists(unreadableFilePath)) {
+                continue;
+            }
+            Path corruptFilePath = unreadableFilePath.resolveSibling(unreadableFilePath.getFileName()
+                    + CORRUPT_FILE_SUFFIX);
+            logger.warning("Moving unreadable " + unreadableFilePath + " to " + corruptFilePath);
+            Files.move(unreadableFilePath, corruptFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        isLoadFailed = false;
+    }
+
+    /**
+     * Applies each entry of the journal at {@code journalFilePath}, if there is one, to {@code addressBook} in order.
+     * An unreadable last entry without a line break is taken to be an interrupted write and is skipped.
+     */
+    private static ReplayedJournal replayJournal(Path journalFilePath, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        ReplayedJournal replayedJournal = new ReplayedJournal();
+        if (!Files.exists(journalFilePath)) {
+            return replayedJournal;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(journalFilePath))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            long length = 0;
+            int next;
+            while ((next = in.read()) != -1) {
+                length++;
+                if (next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                if (line.size() > 0) {
+                    readEntry(line).applyTo(addressBook);
+                    replayedJournal.entryCount++;
+                    line.reset();
+                }
+                replayedJournal.completeLength = length;
+            }
+
+            if (line.size() > 0) {
+                JsonAdaptedJournalEntry lastEntry;
+                try {
+                    lastEntry = readEntry(line);
+                } catch (IOException e) {
+                    logger.warning("Skipping incomplete last entry of journal " + journalFilePath);
+                    replayedJournal.isLastEntryIncomplete = true;
+                    return replayedJournal;
+                }
+                lastEntry.applyTo(addressBook);
+                replayedJournal.entryCount++;
+                replayedJournal.completeLength = length;
+                // the next entry would be appended to this entry's line
+                replayedJournal.isLineBreakMissing = true;
+            }
+        }
+        return replayedJournal;
+    }
+
+    private static JsonAdaptedJournalEntry readEntry(ByteArrayOutputStream line) throws IOException {
+        return JsonUtil.fromJsonString(line.toString(StandardCharsets.UTF_8), JsonAdaptedJournalEntry.class);
+    }
+
+    /**
+     * Cuts off the incomplete last entry of the journal, or adds the missing line break after its last entry, so that
+     * entries can be appended to it.
+     */
+    private void repairJournal() throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (completeJournalLength >= 0) {
+            try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                journal.truncate(completeJournalLength);
+            }
+            completeJournalLength = -1;
+        }
+        if (isJournalLineBreakMissing) {
+            appendDurably(journalFilePath, "\n");
+            isJournalLineBreakMissing = false;
+        }
+    }
+
+    /**
+     * Returns the journal entries that turn the last saved address book into {@code addressBook}.
+     */
+    private List<JsonAdaptedJournalEntry> getChanges(AddressBookSnapshot addressBook) {
+        Optional<List<AddressBookChange>> changes = addressBook.getChangesSince(savedAddressBook);
+        if (!changes.isPresent()) {
+            logger.fine("Changes since the last save are not known, so the address book is compared with it");
+            return compareWithSaved(addressBook);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(changes.get().size());
+        for (AddressBookChange change : changes.get()) {
+            entries.add(JsonAdaptedJournalEntry.of(change));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal entries that turn the last saved address book into {@code addressBook}, found by comparing
+     * the two. Tags are added before and removed after the persons that use them are changed.
+     */
+    private List<JsonAdaptedJournalEntry> compareWithSaved(ReadOnlyAddressBook addressBook) {
+        Map<Name, Person> savedPersons = new HashMap<>();
+        List<Name> savedOrder = new ArrayList<>();
+        for (Person person : savedAddressBook.getPersonList()) {
+            savedPersons.put(person.getName(), person);
+            savedOrder.add(person.getName());
+        }
+        Set<Tag> savedTags = new HashSet<>(savedAddressBook.getTagList());
+        Map<String, EventTag> savedEventTags = new HashMap<>();
+        for (EventTag eventTag : savedAddressBook.getEventTagList()) {
+            savedEventTags.put(eventTag.tagName, eventTag);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (Tag tag : addressBook.getTagList()) {
+            if (!savedTags.contains(tag)) {
+                entries.add(JsonAdaptedJournalEntry.addTag(tag));
+            }
+        }
+        Set<String> eventTagNames = new HashSet<>();
+        for (EventTag eventTag : addressBook.getEventTagList()) {
+            eventTagNames.add(eventTag.tagName);
+            if (!eventTag.equals(savedEventTags.get(eventTag.tagName))) {
+                entries.add(JsonAdaptedJournalEntry.putEventTag(eventTag));
+            }
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName());
+        }
+        Set<Name> replacedNames = new HashSet<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Person savedPerson = savedPersons.get(person.getName());
+            if (savedPerson == null) {
+                // a new name where a removed name used to be is most likely an edit that renamed the person
+                Name replaced = i < savedOrder.size() && !names.contains(savedOrder.get(i)) ? savedOrder.get(i) : null;
+                if (replaced != null) {
+                    replacedNames.add(replaced);
+                }
+                entries.add(JsonAdaptedJournalEntry.putPerson(person, replaced));
+            } else if (!savedPerson.equals(person)) {
+                entries.add(JsonAdaptedJournalEntry.putPerson(person, null));
+            }
+        }
+        for (Name name : savedOrder) {
+            if (!names.contains(name) && !replacedNames.contains(name)) {
+                entries.add(JsonAdaptedJournalEntry.removePerson(name));
+            }
+        }
+
+        Set<Tag> tags = new HashSet<>(addressBook.getTagList());
+        for (Tag tag : savedTags) {
+            if (!tags.contains(tag)) {
+                entries.add(JsonAdaptedJournalEntry.removeTag(tag));
+            }
+        }
+        for (String eventTagName : savedEventTags.keySet()) {
+            if (!eventTagNames.contains(eventTagName)) {
+                entries.add(JsonAdaptedJournalEntry.removeEventTag(eventTagName));
+            }
+        }
+        return entries;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        appendDurably(journalFilePath, lines.toString());
+    }
+
+    /**
+     * Appends {@code content} to the file at {@code journalFilePath} and forces it to the disk, so that a save is not
+     * lost in a crash once it returns.
+     */
+    private static void appendDurably(Path journalFilePath, String content) throws IOException {
+        try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                journal.write(bytes);
+            }
+            journal.force(false);
+        }
+    }
+
+    private void writeSnapshot(AddressBookSnapshot addressBook) throws IOException {
+        logger.fine("Compacting address book journal into " + filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBook = addressBook;
+        journalEntryCount = 0;
+        completeJournalLength = -1;
+        isJournalLineBreakMissing = false;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook} that later changes to it do not affect.
+     * Snapshots share the persons of the address book, so this only copies the persons of address books that are
+     * neither snapshots nor {@code AddressBook}s.
+     */
+    private static AddressBookSnapshot snapshotOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        AddressBook toSnapshot = addressBook instanceof AddressBook
+                ? (AddressBook) addressBook
+                : new AddressBook(addressBook);
+        // versions are only compared by the model
+        return toSnapshot.snapshot(0);
+    }
+
+    /**
+     * What was found while replaying a journal.
+     */
+    private static class ReplayedJournal {
+        private int entryCount;
+        // the length of the journal up to the end of its last complete entry
+        private long completeLength;
+        private boolean isLastEntryIncomplete;
+        private boolean isLineBreakMissing;
+    }
+
+}
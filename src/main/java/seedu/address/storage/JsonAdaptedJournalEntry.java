@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly record of a single change to an address book, as stored in an address book journal.
+ * Applying an entry is idempotent, so a journal can safely be replayed onto a snapshot that already contains
+ * some or all of its changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String PUT_PERSON = "putPerson";
+    public static final String REMOVE_PERSON = "removePerson";
+    public static final String ADD_TAG = "addTag";
+    public static final String REMOVE_TAG = "removeTag";
+    public static final String PUT_EVENT_TAG = "putEventTag";
+    public static final String REMOVE_EVENT_TAG = "removeEventTag";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String UNKNOWN_OPERATION_MESSAGE_FORMAT = "Unknown journal operation: %s";
+
+    private final String op;
+    private final String target;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTag tag;
+    private final JsonAdaptedEventTag eventTag;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("target") String target,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("tag") JsonAdaptedTag tag,
+            @JsonProperty("eventTag") JsonAdaptedEventTag eventTag) {
+        this.op = op;
+        this.target = target;
+        this.person = person;
+        this.tag = tag;
+        this.eventTag = eventTag;
+    }
+
+    /**
+     * Returns an entry that adds {@code person}, or replaces the person with the same name.
+     * If {@code replaced} is not null, the entry replaces the person with that name instead, keeping its position.
+     */
+    public static JsonAdaptedJournalEntry putPerson(Person person, Name replaced) {
+        return new JsonAdaptedJournalEntry(PUT_PERSON, replaced == null ? null : replaced.fullName,
+                new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code name}.
+     */
+    public static JsonAdaptedJournalEntry removePerson(Name name) {
+        return new JsonAdaptedJournalEntry(REMOVE_PERSON, name.fullName, null, null, null);
+    }
+
+    /**
+     * Returns an entry that adds {@code tag}.
+     */
+    public static JsonAdaptedJournalEntry addTag(Tag tag) {
+        return new JsonAdaptedJournalEntry(ADD_TAG, null, null, new JsonAdaptedTag(tag), null);
+    }
+
+    /**
+     * Returns an entry that removes {@code tag} from the address book and from every person holding it.
+     */
+    public static JsonAdaptedJournalEntry removeTag(Tag tag) {
+        return new JsonAdaptedJournalEntry(REMOVE_TAG, null, null, new JsonAdaptedTag(tag), null);
+    }
+
+    /**
+     * Returns an entry that adds {@code eventTag}, or replaces the event tag with the same name.
+     */
+    public static JsonAdaptedJournalEntry putEventTag(EventTag eventTag) {
+        return new JsonAdaptedJournalEntry(PUT_EVENT_TAG, null, null, null, new JsonAdaptedEventTag(eventTag));
+    }
+
+    /**
+     * Returns an entry that removes the event tag named {@code eventTagName} from the address book and from every
+     * person holding it.
+     */
+    public static JsonAdaptedJournalEntry removeEventTag(String eventTagName) {
+        return new JsonAdaptedJournalEntry(REMOVE_EVENT_TAG, eventTagName, null, null, null);
+    }
+
+    /**
+     * Returns an entry that records {@code change}.
+     */
+    public static JsonAdaptedJournalEntry of(AddressBookChange change) {
+        switch (change.getKind()) {
+        case PUT_PERSON:
+            return putPerson(change.getPerson(), change.getName());
+        case REMOVE_PERSON:
+            return removePerson(change.getName());
+        case ADD_TAG:
+            return addTag(change.getTag());
+        case REMOVE_TAG:
+            return removeTag(change.getTag());
+        case PUT_EVENT_TAG:
+            return putEventTag(change.getEventTag());
+        case REMOVE_EVENT_TAG:
+            return removeEventTag(change.getEventTag().tagName);
+        default:
+            throw new AssertionError("Unknown kind of change: " + change.getKind());
+        }
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is incomplete or there were any data constraints violated.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case PUT_PERSON:
+            applyPutPerson(addressBook);
+            break;
+        case REMOVE_PERSON:
+            Person toRemove = addressBook.getPerson(toName(requireField(target, "target")));
+            if (toRemove != null) {
+                addressBook.removePerson(toRemove);
+            }
+            break;
+        case ADD_TAG:
+            Tag toAdd = requireField(tag, "tag").toModelType();
+            if (!addressBook.hasTag(toAdd)) {
+                addressBook.addTag(toAdd);
+            }
+            break;
+        case REMOVE_TAG:
+            Tag tagToRemove = requireField(tag, "tag").toModelType();
+            if (addressBook.hasTag(tagToRemove)) {
+                addressBook.removeTag(tagToRemove);
+            }
+            break;
+        case PUT_EVENT_TAG:
+            EventTag eventTagToPut = requireField(eventTag, "eventTag").toModelType();
+            EventTag existingEventTag = addressBook.getEventTag(eventTagToPut.tagName);
+            if (existingEventTag == null) {
+                addressBook.addEventTag(eventTagToPut);
+            } else if (!existingEventTag.equals(eventTagToPut)) {
+                addressBook.setEventTags(existingEventTag, eventTagToPut);
+            }
+            break;
+        case REMOVE_EVENT_TAG:
+            EventTag eventTagToRemove = addressBook.getEventTag(requireField(target, "target"));
+            if (eventTagToRemove != null) {
+                addressBook.removeEventTag(eventTagToRemove);
+            }
+            break;
+        default:
+            throw new IllegalValueException(String.format(UNKNOWN_OPERATION_MESSAGE_FORMAT, op));
+        }
+    }
+
+    private void applyPutPerson(AddressBook addressBook) throws IllegalValueException {
+        Person toPut = requireField(person, "person").toModelType();
+        Person existing = addressBook.getPerson(toPut.getName());
+        if (existing == null && target != null) {
+            existing = addressBook.getPerson(toName(target));
+        }
+
+        if (existing == null) {
+            addressBook.addPerson(toPut);
+        } else if (!existing.equals(toPut)) {
+            addressBook.setPerson(existing, toPut);
+        }
+    }
+
+    private static Name toName(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private static <T> T requireField(T value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return value;
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,8 +11,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,6 +19,8 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,27 +40,75 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded, for example because it is corrupted, the previous generation of the file
+     * kept at {@link #getBackupFilePath(Path)} is loaded instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readModelAddressBook(filePath).map(addressBook -> addressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but returns the model's {@code AddressBook} so that it can be
+     * changed further by the caller.
+     */
+    Optional<AddressBook> readModelAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataLoadingException e) {
+            Path backupFilePath = getBackupFilePath(filePath);
+            if (!Files.exists(backupFilePath)) {
+                throw e;
+            }
+
+            logger.warning("Loading the previous generation of the data file from " + backupFilePath);
+            try {
+                return Optional.of(readFile(backupFilePath));
+            } catch (DataLoadingException backupException) {
+                logger.warning("Previous generation of the data file could not be loaded either");
+                throw e;
+            }
+        }
+    }
 
+    /**
+     * Reads the address book in the file at {@code filePath}, which may be in either the JSON or the binary format,
+     * so that switching {@link seedu.address.model.AddressBookFormat} converts the file on the next save.
+     */
+    private AddressBook readFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (BinaryAddressBookStream.isBinaryFile(filePath)) {
+                return readBinaryFile(filePath);
+            }
+            return JsonAddressBookStream.readAddressBook(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
+    /**
+     * Reads the address book in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected AddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        return BinaryAddressBookStream.readAddressBook(filePath);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +116,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and its previous generation is kept at {@link #getBackupFilePath(Path)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +124,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writeFile(addressBook, filePath, getBackupFilePath(filePath));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} in the format of this storage, atomically replacing the file and
+     * keeping its previous content at {@code backupFilePath}.
+     */
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath, Path backupFilePath) throws IOException {
+        JsonAddressBookStream.saveAddressBook(addressBook, filePath, backupFilePath);
+    }
+
+    /**
+     * Returns the path where the previous generation of the data file at {@code filePath} is kept.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
     }
 
 }
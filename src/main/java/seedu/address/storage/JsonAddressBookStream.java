@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in the format of {@link JsonSerializableAddressBook} one person and tag at a time,
+ * so that neither the text of the file nor a Jackson-friendly copy of the whole address book is held in memory.
+ * Files are written with a trailing {@code checksum} field holding the CRC32 of everything before it, so that
+ * a corrupted file is detected when it is read. Other readers ignore the field as an unknown property.
+ */
+class JsonAddressBookStream {
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Address book file is corrupted: "
+            + "its checksum does not match its content.";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TAG_LIST_FIELD = "tagList";
+    private static final String EVENT_TAG_LIST_FIELD = "eventTagList";
+    private static final String CHECKSUM_FIELD = "checksum";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private JsonAddressBookStream() {} // prevents instantiation
+
+    /**
+     * Reads the address book stored in the JSON file at {@code filePath}.
+     * Unknown fields are ignored and missing lists are taken to be empty.
+     * If the file has a checksum, it must match the content of the file.
+     *
+     * @throws IOException if the file could not be read, is not in the expected format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(Path filePath) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        List<EventTag> eventTags = new ArrayList<>();
+        // length of the content covered by the checksum, if the checksum immediately follows one of the lists
+        long checkedLength = -1;
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case PERSONS_FIELD:
+                    readArray(parser, JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType, persons);
+                    checkedLength = parser.getCurrentLocation().getByteOffset();
+                    break;
+                case TAG_LIST_FIELD:
+                    readArray(parser, JsonAdaptedTag.class, JsonAdaptedTag::toModelType, tags);
+                    checkedLength = parser.getCurrentLocation().getByteOffset();
+                    break;
+                case EVENT_TAG_LIST_FIELD:
+                    readArray(parser, JsonAdaptedEventTag.class, JsonAdaptedEventTag::toModelType, eventTags);
+                    checkedLength = parser.getCurrentLocation().getByteOffset();
+                    break;
+                case CHECKSUM_FIELD:
+                    String checksum = parser.getValueAsString();
+                    if (checksum != null) {
+                        verifyChecksum(filePath, checkedLength, checksum);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    checkedLength = -1;
+                }
+            }
+        }
+
+        return JsonSerializableAddressBook.toModelType(tags, eventTags, persons);
+    }
+
+    /**
+     * Writes {@code addressBook} to the JSON file at {@code filePath}, atomically replacing it if it exists.
+     *
+     * @param backupFilePath if not null, the previous content of {@code filePath} is moved here.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, Path backupFilePath)
+            throws IOException {
+        FileUtil.writeAtomically(filePath, backupFilePath, out -> writeAddressBook(addressBook, out));
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(checkedOut)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(TAG_LIST_FIELD);
+            for (Tag tag : addressBook.getTagList()) {
+                generator.writeObject(new JsonAdaptedTag(tag));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(EVENT_TAG_LIST_FIELD);
+            for (EventTag eventTag : addressBook.getEventTagList()) {
+                generator.writeObject(new JsonAdaptedEventTag(eventTag));
+            }
+            generator.writeEndArray();
+
+            generator.flush();
+            generator.writeStringField(CHECKSUM_FIELD, toHexString(checkedOut.getChecksum()));
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Checks that the CRC32 of the first {@code checkedLength} bytes of the file at {@code filePath} is
+     * {@code expectedChecksum}.
+     *
+     * @throws IOException if the file could not be read or the checksum does not match.
+     */
+    private static void verifyChecksum(Path filePath, long checkedLength, String expectedChecksum)
+            throws IOException {
+        if (checkedLength < 0) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        CRC32 checksum = new CRC32();
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            long remaining = checkedLength;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                checksum.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+
+        if (!toHexString(checksum).equals(expectedChecksum)) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    private static String toHexString(Checksum checksum) {
+        return String.format("%08x", checksum.getValue());
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser} one element at a time, converting each element to its
+     * model type and adding it to {@code result}. A null array is taken to be empty.
+     */
+    private static <A, M> void readArray(JsonParser parser, Class<A> adaptedClass, ModelConverter<A, M> converter,
+            List<M> result) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            result.add(converter.toModelType(parser.readValueAs(adaptedClass)));
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into its model type.
+     */
+    @FunctionalInterface
+    private interface ModelConverter<A, M> {
+        M toModelType(A adapted) throws IllegalValueException;
+    }
+}
@@ -61,23 +61,42 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Tag> tags = new ArrayList<>();
         for (JsonAdaptedTag jsonAdaptedTag : tagList) {
-            Tag tag = jsonAdaptedTag.toModelType();
+            tags.add(jsonAdaptedTag.toModelType());
+        }
+        List<EventTag> eventTags = new ArrayList<>();
+        for (JsonAdaptedEventTag jsonAdaptedEventTag : eventTagList) {
+            eventTags.add(jsonAdaptedEventTag.toModelType());
+        }
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toModelType(tags, eventTags, modelPersons);
+    }
+
+    /**
+     * Builds the model's {@code AddressBook} object from the given tags, event tags and persons.
+     *
+     * @throws IllegalValueException if there are duplicate tags, event tags or persons.
+     */
+    static AddressBook toModelType(List<Tag> tags, List<EventTag> eventTags, List<Person> persons)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Tag tag : tags) {
             if (addressBook.hasTag(tag)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
             }
             addressBook.addTag(tag);
         }
-        for (JsonAdaptedEventTag jsonAdaptedEventTag : eventTagList) {
-            EventTag eventTag = jsonAdaptedEventTag.toModelType();
-            if (addressBook.hasEventTag(eventTag)) {
+        for (EventTag eventTag : eventTags) {
+            if (addressBook.hasEventTag(eventTag.tagName)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT_TAG);
             }
             addressBook.addEventTag(eventTag);
         }
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        for (Person person : persons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStream.MappedPersonRecords;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, which is memory-mapped rather than
+ * read when loading. Loading only checks the header and the layout of the person records. Each person is only created
+ * and checked when it is first accessed, such as when it is scrolled into view or a command goes through it, so the
+ * heap used after loading grows with the persons used rather than with the size of the address book.
+ * Before a save replaces a file that is still mapped, the address books mapping it are moved to a copy of it, as some
+ * platforms do not allow a mapped file to be replaced. Data files in the JSON format are read in full, and are
+ * converted on the next save.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    // records are only kept here while an address book holds them
+    private final List<WeakReference<MappedPersonRecords>> mappedRecords = new ArrayList<>();
+
+    public MappedAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected AddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        MappedPersonRecords records = BinaryAddressBookStream.mapPersonRecords(filePath);
+        AddressBook addressBook = records.toAddressBook();
+        synchronized (mappedRecords) {
+            mappedRecords.add(new WeakReference<>(records));
+        }
+        return addressBook;
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath, Path backupFilePath) throws IOException {
+        moveMappingsToCopies(filePath, backupFilePath);
+        super.writeFile(addressBook, filePath, backupFilePath);
+    }
+
+    /**
+     * Moves the records still mapping the file at {@code filePath} or {@code backupFilePath} to copies of the files,
+     * which a save is about to replace.
+     */
+    private void moveMappingsToCopies(Path filePath, Path backupFilePath) throws IOException {
+        synchronized (mappedRecords) {
+            Iterator<WeakReference<MappedPersonRecords>> iterator = mappedRecords.iterator();
+            while (iterator.hasNext()) {
+                MappedPersonRecords records = iterator.next().get();
+                if (records == null) {
+                    iterator.remove();
+                } else if (records.isMapping(filePath) || records.isMapping(backupFilePath)) {
+                    records.mapCopy();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes behind another {@code AddressBookStorage}.
+ * Saving only takes a copy of the address book; the copy is written by a background thread once no further saves
+ * have been requested for a short delay, so a burst of saves results in a single write of the latest data.
+ * Each save pushes the write back by the delay again, but never further than a maximum delay after the oldest save
+ * that is still waiting, so that a steady stream of saves does not hold back every write.
+ * A failure of a background write is reported by the next call to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+ * The address book that failed to be written stays pending, and is written again by the next write unless a later
+ * save to the same file replaces it.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_DELAY_MILLIS = 500;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 5000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final long delayMillis;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService writer;
+
+    // Latest copy waiting to be written for each file path, guarded by this.
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledWrite;
+    // When the oldest of the pending saves was made, as given by System.nanoTime().
+    private long oldestPendingSaveNanos;
+    private IOException lastWriteFailure;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code delegate} after the default delay.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate) {
+        this(delegate, DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code delegate} once no saves have been
+     * requested for {@code delayMillis} milliseconds, or after the default maximum delay if that is longer.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate, long delayMillis) {
+        this(delegate, delayMillis, Math.max(delayMillis, DEFAULT_MAX_DELAY_MILLIS));
+    }
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code delegate} once no saves have been
+     * requested for {@code delayMillis} milliseconds, or once the oldest save waiting to be written was requested
+     * {@code maxDelayMillis} milliseconds ago, whichever comes first.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate, long delayMillis, long maxDelayMillis) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.delayMillis = delayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(delegate.getAddressBookFilePath());
+    }
+
+    /**
+     * Writes out any pending saves before reading, so that the data read is never older than the data saved.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, delegate.getAddressBookFilePath());
+    }
+
+    /**
+     * Queues a copy of {@code addressBook} to be written to {@code filePath} in the background.
+     *
+     * @throws IOException if the previous background write failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook copy = copyOf(addressBook);
+        IOException failure;
+        synchronized (this) {
+            long nowNanos = System.nanoTime();
+            if (pendingSaves.isEmpty()) {
+                oldestPendingSaveNanos = nowNanos;
+            }
+            pendingSaves.put(filePath, copy);
+            if (scheduledWrite != null) {
+                // a write that has already started writes what was pending then, and this save is written next
+                scheduledWrite.cancel(false);
+            }
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(nowNanos - oldestPendingSaveNanos);
+            long writeDelayMillis = Math.max(0, Math.min(delayMillis, maxDelayMillis - waitedMillis));
+            scheduledWrite = writer.schedule(this::writePendingSaves, writeDelayMillis, TimeUnit.MILLISECONDS);
+            failure = lastWriteFailure;
+            lastWriteFailure = null;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes out all pending saves and waits for them to complete.
+     *
+     * @throws IOException if a pending or previous background write failed.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePendingSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = lastWriteFailure;
+            lastWriteFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes out all pending saves and stops the background writer.
+     * No further saves can be made once closed.
+     *
+     * @throws IOException if a pending or previous background write failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Writes the pending saves to the underlying storage. Runs on the writer thread only.
+     */
+    private void writePendingSaves() {
+        List<Map.Entry<Path, ReadOnlyAddressBook>> toWrite;
+        synchronized (this) {
+            toWrite = new ArrayList<>(pendingSaves.entrySet());
+            pendingSaves.clear();
+        }
+
+        for (Map.Entry<Path, ReadOnlyAddressBook> save : toWrite) {
+            try {
+                delegate.saveAddressBook(save.getValue(), save.getKey());
+            } catch (IOException e) {
+                logger.warning("Failed to save address book to " + save.getKey() + ": " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    lastWriteFailure = e;
+                    if (pendingSaves.isEmpty()) {
+                        oldestPendingSaveNanos = System.nanoTime();
+                    }
+                    // a save made since the write started is newer than the failed one
+                    pendingSaves.putIfAbsent(save.getKey(), save.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code source} that is not affected by later changes to {@code source},
+     * so that it can be safely written by another thread.
+     * Persons are immutable, so only the lists are copied, and a snapshot is not copied at all.
+     */
+    private static ReadOnlyAddressBook copyOf(ReadOnlyAddressBook source) {
+        if (source instanceof AddressBookSnapshot) {
+            return source;
+        }
+        return new AddressBook(source);
+    }
+}
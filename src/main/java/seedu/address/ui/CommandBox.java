@@ -1,34 +1,49 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * The text being typed is also passed on once typing pauses, so that the results of a search can be shown as it is
+ * typed.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Time without typing after which the text typed is passed on, so that not every keystroke starts a search. */
+    private static final Duration TYPING_PAUSE = Duration.millis(150);
+
     private final CommandExecutor commandExecutor;
+    private final PauseTransition typingPause = new PauseTransition(TYPING_PAUSE);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which passes the text being typed to
+     * {@code typedTextListener} whenever typing pauses.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Consumer<String> typedTextListener) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        typingPause.setOnFinished(unused -> typedTextListener.accept(commandTextField.getText()));
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            typingPause.playFromStart();
+        });
     }
 
     /**
@@ -41,6 +56,8 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        // the command is executed on the text as typed, so there is no need to pass it on
+        typingPause.stop();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
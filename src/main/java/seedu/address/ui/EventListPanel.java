@@ -2,11 +2,10 @@ package seedu.address.ui;
 
 import static seedu.address.model.AddressBook.DEFAULT_EVENT_TAG;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableSet;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -16,6 +15,8 @@ import seedu.address.model.tag.EventTag;
 
 /**
  * Panel containing the list of events.
+ * The default event is shown first, followed by the events of the list the panel was created with, in the same
+ * order. The panel follows changes to that list, so it is created once and never rebuilt.
  */
 public class EventListPanel extends UiPart<Region> {
     private static final String FXML = "EventListPanel.fxml";
@@ -27,11 +28,12 @@ public class EventListPanel extends UiPart<Region> {
     /**
      * Creates a {@code EventListPanel} with the given {@code ObservableList}.
      */
-    public EventListPanel(ObservableSet<EventTag> eventSet) {
+    public EventListPanel(ObservableList<EventTag> eventList) {
         super(FXML);
         eventListView.setCellFactory(listView -> new EventListViewCell());
         addDefaultEventCard();
-        addExistingTagEventCard(eventSet);
+        addExistingTagEventCard(eventList);
+        eventList.addListener(this::handleEventListChange);
 
         eventListView.getSelectionModel().select(DEFAULT_EVENT_TAG);
     }
@@ -40,11 +42,29 @@ public class EventListPanel extends UiPart<Region> {
         eventListView.getItems().add(DEFAULT_EVENT_TAG);
     }
 
-    private void addExistingTagEventCard(ObservableSet<EventTag> eventSet) {
-        List<EventTag> eventList = new ArrayList<>(eventSet);
+    private void addExistingTagEventCard(ObservableList<EventTag> eventList) {
         eventListView.getItems().addAll(eventList);
     }
 
+    /**
+     * Applies each change to the list of events this panel was created with to the same positions of the events
+     * shown, which are one further down because of the default event.
+     */
+    private void handleEventListChange(ListChangeListener.Change<? extends EventTag> change) {
+        ObservableList<EventTag> items = eventListView.getItems();
+        while (change.next()) {
+            int from = change.getFrom() + 1;
+            if (change.wasPermutated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    items.set(i + 1, change.getList().get(i));
+                }
+            } else if (change.wasRemoved() || change.wasAdded()) {
+                items.remove(from, from + change.getRemovedSize());
+                items.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+
 
     //@@author {peienlim}-reused
     //Reused from https://github.com/AY2324S1-CS2103T-F08-3/tp
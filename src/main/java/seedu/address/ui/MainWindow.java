@@ -16,6 +16,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.TaskListener;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -38,6 +39,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private EventListPanel eventListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -121,16 +123,17 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getEventTagList());
+        eventListPanel = new EventListPanel(logic.getSortedEventTagList());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setTaskListener(new BackgroundCommandListener());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::search);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -186,42 +189,68 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            handleCommandResult(commandResult);
+            return commandResult;
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+        } catch (CommandException | ParseException e) {
+            logger.info("An error occurred while executing command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            throw e;
+        }
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a command, whether it was run to the end by {@link #executeCommand(String)} or in the
+     * background.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            eventListPanel = new EventListPanel(logic.getEventTagList());
-            eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            //@@author {peienlim}-reused
-            //Reused from https://github.com/AY2324S1-CS2103T-F08-3/tp
-            //(src/main/java/seedu/address/ui/MainWindow.java) Lines 196 to 202 with minor modifications
-            Optional<EventTag> eventTag = commandResult.getEventTag();
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (eventTag.isPresent()) {
-                if (eventTag.get().equals(DEFAULT_EVENT_TAG)) { // list command, change back to all contacts tab
-                    eventListPanel.clearEventSelection();
-                }
+        // The list panels follow the model by themselves, so only the selected event is set here. Commands that do
+        // not report an event leave the current event of the model as it is, so they keep the selection too.
+        //@@author {peienlim}-reused
+        //Reused from https://github.com/AY2324S1-CS2103T-F08-3/tp
+        //(src/main/java/seedu/address/ui/MainWindow.java) Lines 196 to 202 with minor modifications
+        Optional<EventTag> eventTag = commandResult.getEventTag();
+
+        if (eventTag.isPresent()) {
+            if (eventTag.get().equals(DEFAULT_EVENT_TAG)) { // list command, change back to all contacts tab
+                eventListPanel.clearEventSelection();
+            } else {
                 eventListPanel.selectEvent(eventTag.get());
             }
+        }
+        //@@author {peienlim}
+    }
 
-            //@@author {peienlim}
-            personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-            personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+    /**
+     * Shows the progress of a command running in the background in the status bar, and its result once it ends.
+     */
+    private class BackgroundCommandListener implements TaskListener {
+        @Override
+        public void onProgress(String progressMessage) {
+            statusBarFooter.setTaskStatus(progressMessage);
+        }
 
-            return commandResult;
+        @Override
+        public void onSuccess(CommandResult result) {
+            statusBarFooter.setTaskStatus("");
+            handleCommandResult(result);
+        }
 
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+        @Override
+        public void onFailure(CommandException e) {
+            statusBarFooter.setTaskStatus("");
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
         }
     }
 }
@@ -1,16 +1,21 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.Set;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be shown a different person at any time, so that a list cell loads the FXML of its card only once
+ * and reuses it for every person it shows. The labels of tags are kept for reuse as well.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +29,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -43,22 +49,67 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane eventTags;
 
+    /**
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with the given index to display, in place of the person shown before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        // persons are immutable, so the same person at the same index looks the same
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getEventTags().stream()
-                .sorted(Comparator.comparing(eventTag -> eventTag.tagName))
-                .forEach(eventTag -> eventTags.getChildren().add(new Label(eventTag.tagName)));
+        setTagLabels(tags, person.getTags());
+        setTagLabels(eventTags, person.getEventTags());
+    }
+
+    /**
+     * Shows the names of {@code tagsToShow}, which are already sorted by name, in {@code pane}.
+     * The labels in {@code pane} are reused, and the labels that are not needed are hidden rather than removed, so
+     * that showing as many tags again later creates no labels.
+     */
+    private static void setTagLabels(FlowPane pane, Set<? extends Tag> tagsToShow) {
+        ObservableList<Node> labels = pane.getChildren();
+        int i = 0;
+        for (Tag tag : tagsToShow) {
+            if (i == labels.size()) {
+                labels.add(new Label());
+            }
+            Label label = (Label) labels.get(i++);
+            label.setText(tag.tagName);
+            setShown(label, true);
+        }
+        for (; i < labels.size(); i++) {
+            setShown(labels.get(i), false);
+        }
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
     }
 }
@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvReaderTest {
+
+    private static CsvReader reader(String csv) {
+        return new CsvReader(new StringReader(csv));
+    }
+
+    @Test
+    public void constructor_nullReader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRow_unquotedValues_success() throws Exception {
+        CsvReader reader = reader("a,b,c\nd,,\n");
+        assertEquals(Arrays.asList("a", "b", "c"), reader.readRow());
+        assertEquals(1, reader.getRowNumber());
+        assertEquals(Arrays.asList("d", "", ""), reader.readRow());
+        assertNull(reader.readRow());
+        assertEquals(2, reader.getRowNumber());
+    }
+
+    @Test
+    public void readRow_crlfLineEndings_success() throws Exception {
+        CsvReader reader = reader("a,b\r\nc,d\r\n");
+        assertEquals(Arrays.asList("a", "b"), reader.readRow());
+        assertEquals(Arrays.asList("c", "d"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_noLineEndingAtEnd_lastRowRead() throws Exception {
+        CsvReader reader = reader("a,b\nc,d");
+        reader.readRow();
+        assertEquals(Arrays.asList("c", "d"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedValues_success() throws Exception {
+        CsvReader reader = reader("\"a,b\",\"say \"\"hi\"\"\",\"\"\n\"line\r\nbreak\",x\n");
+        assertEquals(Arrays.asList("a,b", "say \"hi\"", ""), reader.readRow());
+        assertEquals(Arrays.asList("line\r\nbreak", "x"), reader.readRow());
+        assertEquals(2, reader.getRowNumber());
+    }
+
+    @Test
+    public void readRow_quotedValueAtEndOfRow_success() throws Exception {
+        CsvReader reader = reader("a,\"b\"\r\n\"c\"");
+        assertEquals(Arrays.asList("a", "b"), reader.readRow());
+        assertEquals(Collections.singletonList("c"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_emptyLinesAndByteOrderMark_skipped() throws Exception {
+        CsvReader reader = reader("\uFEFFa,b\n\n\r\nc\n\n");
+        assertEquals(Arrays.asList("a", "b"), reader.readRow());
+        assertEquals(Collections.singletonList("c"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_emptyInput_returnsNull() throws Exception {
+        assertNull(reader("").readRow());
+    }
+
+    @Test
+    public void readRow_unclosedQuote_throwsIllegalValueException() throws Exception {
+        CsvReader reader = reader("a\n\"b,c\n");
+        reader.readRow();
+        assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2),
+                reader::readRow);
+    }
+
+    @Test
+    public void readRow_charactersAfterClosingQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_CHARACTERS_AFTER_QUOTE, 1), () ->
+                reader("\"a\"b,c\n").readRow());
+    }
+
+    @Test
+    public void getByteOffset_multiByteCharacters_countedInUtf8() throws Exception {
+        String firstRow = "\uFEFFcaf\u00e9,\u20ac5,\uD83D\uDE00\n";
+        CsvReader reader = reader(firstRow + "a,b\r\n\n");
+        assertEquals(0, reader.getByteOffset());
+        reader.readRow();
+        assertEquals(firstRow.getBytes(StandardCharsets.UTF_8).length, reader.getByteOffset());
+        reader.readRow();
+        assertEquals(firstRow.getBytes(StandardCharsets.UTF_8).length + 5, reader.getByteOffset());
+    }
+
+    @Test
+    public void constructor_continuedReader_continuesRowNumbersAndOffsets() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFa,b\n"), 3, 10);
+        assertEquals(3, reader.getRowNumber());
+        assertEquals(Arrays.asList("\uFEFFa", "b"), reader.readRow());
+        assertEquals(4, reader.getRowNumber());
+        assertEquals(17, reader.getByteOffset());
+    }
+}
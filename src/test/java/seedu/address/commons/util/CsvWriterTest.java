@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void constructor_nullWriter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvWriter(null));
+    }
+
+    @Test
+    public void writeRow_plainValues_notQuoted() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(Arrays.asList("a", "", "c"));
+            writer.writeValue("d");
+            writer.endRow();
+        }
+        assertEquals("a,,c\nd\n", out.toString());
+    }
+
+    @Test
+    public void writeValue_specialCharacters_quoted() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(Arrays.asList("123, Jurong West", "say \"hi\"", "two\nlines", "\"", "plain"));
+        }
+        assertEquals("\"123, Jurong West\",\"say \"\"hi\"\"\",\"two\nlines\",\"\"\"\",plain\n", out.toString());
+    }
+
+    @Test
+    public void writeRow_readBack_sameValues() throws Exception {
+        List<String> first = Arrays.asList("a,b", "\"quoted\"", "", "line\r\nbreak", "t/E-camp dc/Camp, with fire");
+        List<String> second = Arrays.asList("x", "y", "z", "", "");
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRow(first);
+            writer.writeRow(second);
+        }
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertEquals(first, reader.readRow());
+        assertEquals(second, reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void writeValue_beforeFlush_buffered() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow(Arrays.asList("a", "b"));
+        assertEquals("", out.toString());
+        writer.flush();
+        assertEquals("a,b\n", out.toString());
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,40 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectory_createsFile() throws IOException {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_keepsBackup() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = testFolder.resolve("file.txt.bak");
+        FileUtil.writeToFile(file, "old");
+
+        FileUtil.writeAtomically(file, backupFile, out -> out.write("new".getBytes("UTF-8")));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(backupFile));
+        assertFalse(Files.exists(testFolder.resolve("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = testFolder.resolve("file.txt.bak");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, backupFile, out -> {
+            out.write("partial".getBytes("UTF-8"));
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(backupFile));
+        assertFalse(Files.exists(testFolder.resolve("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
 }
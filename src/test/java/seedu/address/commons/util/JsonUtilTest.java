@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -27,6 +28,16 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_serializationFails_fileUnchanged() throws IOException {
+        Path file = TestUtil.getFilePathInSandboxFolder("unchanged.json");
+        FileUtil.writeToFile(file, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        // the value of the second field cannot be serialized, so the write fails after the first field
+        assertThrows(IOException.class, () -> JsonUtil.serializeObjectToJsonFile(file, new UnserializableTestClass()));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -42,4 +53,12 @@ public class JsonUtilTest {
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+
+    /**
+     * A class with a field that cannot be serialized to JSON.
+     */
+    private static class UnserializableTestClass {
+        private final String name = "unserializable";
+        private final Object value = new Object();
+    }
 }
@@ -123,6 +123,31 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordPrefixIgnoreCase --------------------------------------
+
+    @Test
+    public void containsWordPrefixIgnoreCase_invalidPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Prefix parameter cannot be empty", ()
+            -> StringUtil.containsWordPrefixIgnoreCase("typical sentence", "  "));
+        assertThrows(IllegalArgumentException.class, "Prefix parameter should be a single word", ()
+            -> StringUtil.containsWordPrefixIgnoreCase("typical sentence", "aaa BBB"));
+    }
+
+    @Test
+    public void containsWordPrefixIgnoreCase_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(StringUtil.containsWordPrefixIgnoreCase("", "abc"));
+
+        // Prefix of a word, or a whole word
+        assertTrue(StringUtil.containsWordPrefixIgnoreCase("aaa bBb ccc", "Bb"));
+        assertTrue(StringUtil.containsWordPrefixIgnoreCase("aaa bBb ccc", "ccc"));
+        assertTrue(StringUtil.containsWordPrefixIgnoreCase("  AAA   bBb   ", " a "));
+
+        // Part of a word that is not its start, or longer than the word
+        assertFalse(StringUtil.containsWordPrefixIgnoreCase("aaa xYz ccc", "yz"));
+        assertFalse(StringUtil.containsWordPrefixIgnoreCase("aaa bBb ccc", "aaaa"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
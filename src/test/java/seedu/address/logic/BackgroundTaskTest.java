@@ -0,0 +1,121 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BackgroundCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TaskContext;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class BackgroundTaskTest {
+
+    private final List<Runnable> modelThread = new ArrayList<>();
+    private final List<String> progressMessages = new ArrayList<>();
+    private BackgroundTask finishedTask;
+
+    private BackgroundTask newTask(BackgroundCommand command, Executor modelExecutor) {
+        return new BackgroundTask(command, new ModelManager(), modelExecutor, progressMessages::add,
+                task -> finishedTask = task);
+    }
+
+    private void runModelThread() {
+        List<Runnable> tasks = new ArrayList<>(modelThread);
+        modelThread.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void run_commandSucceeds_resultPassedToModelThread() throws Exception {
+        CommandResult result = new CommandResult("done");
+        BackgroundTask task = newTask(new BackgroundCommandStub(result), modelThread::add);
+
+        task.run();
+        assertNull(finishedTask);
+        runModelThread();
+        assertSame(task, finishedTask);
+        assertEquals(result, task.getResult());
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_failureReported() {
+        BackgroundTask task = newTask(new BackgroundCommandStub(null), modelThread::add);
+
+        task.run();
+        runModelThread();
+        assertSame(task, finishedTask);
+        assertThrows(CommandException.class, String.format(BackgroundTask.MESSAGE_UNEXPECTED_ERROR, "failed"),
+                task::getResult);
+    }
+
+    @Test
+    public void reportProgress_calledAgainAtOnce_onlyFirstReported() {
+        BackgroundTask task = newTask(new BackgroundCommandStub(null), modelThread::add);
+
+        task.reportProgress(1);
+        task.reportProgress(2);
+        runModelThread();
+        assertEquals(List.of("1 processed"), progressMessages);
+    }
+
+    @Test
+    public void applyToModel_changeThrows_exceptionRethrown() {
+        BackgroundTask task = newTask(new BackgroundCommandStub(null), Runnable::run);
+        int[] changeCount = new int[1];
+
+        task.applyToModel(() -> changeCount[0]++);
+        assertEquals(1, changeCount[0]);
+        assertThrows(IllegalArgumentException.class, () -> task.applyToModel(() -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+
+    @Test
+    public void cancel() {
+        BackgroundTask task = newTask(new BackgroundCommandStub(null), modelThread::add);
+        assertFalse(task.isCancelled());
+        task.cancel();
+        assertTrue(task.isCancelled());
+    }
+
+    /**
+     * A command that returns the given result, or fails unexpectedly if there is none.
+     */
+    private static class BackgroundCommandStub extends BackgroundCommand {
+        private final CommandResult result;
+
+        BackgroundCommandStub(CommandResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public CommandResult execute(Model model, TaskContext context) {
+            if (result == null) {
+                throw new IllegalStateException("failed");
+            }
+            return result;
+        }
+
+        @Override
+        public String getStartedMessage() {
+            return "started";
+        }
+
+        @Override
+        public String getProgressMessage(int processedCount, double processedPerSecond) {
+            return processedCount + " processed";
+        }
+    }
+}
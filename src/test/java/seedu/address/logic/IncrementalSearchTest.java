@@ -0,0 +1,112 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncrementalSearchTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> searchThread = new ArrayList<>();
+    private final List<Runnable> modelThread = new ArrayList<>();
+
+    private static void run(List<Runnable> thread) {
+        List<Runnable> tasks = new ArrayList<>(thread);
+        thread.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void search_findCommand_matchingPersonsShown() {
+        IncrementalSearch search = new IncrementalSearch(model, Runnable::run, Runnable::run);
+
+        search.search("find Meier ");
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // last keyword not followed by a space -> matches the start of a word
+        search.search("find alice Mei");
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        search.search("find Mei ");
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_personRenamedToMatchAfterSearch_personShown() {
+        IncrementalSearch search = new IncrementalSearch(model, Runnable::run, Runnable::run);
+        search.search("find Meier ");
+
+        // the persons shown are filtered by the keywords, not by the persons found when searching
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Arrays.asList(BENSON, renamedCarl, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_noLongerFindCommand_allPersonsShownAgain() {
+        IncrementalSearch search = new IncrementalSearch(model, Runnable::run, Runnable::run);
+        search.search("find Alice");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        search.search("find ");
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_noLongerFindCommand_personsShownBeforeSearchShownAgain() {
+        IncrementalSearch search = new IncrementalSearch(model, Runnable::run, Runnable::run);
+        model.updateTagPersonList(new Tag("owesMoney"));
+        search.search("find Ali");
+        search.search("find Alice ");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        search.search("");
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_notFindCommand_personsShownUnchanged() {
+        IncrementalSearch search = new IncrementalSearch(model, Runnable::run, Runnable::run);
+        model.updateFilteredPersonList(ALICE::equals);
+
+        search.search("delete 1");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_laterSearchStarted_earlierMatchesDropped() {
+        IncrementalSearch search = new IncrementalSearch(model, searchThread::add, modelThread::add);
+        search.search("find Alice");
+        run(searchThread);
+        search.search("find Benson");
+        run(searchThread);
+        run(modelThread);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_searchRunning_personsShownUnchanged() {
+        IncrementalSearch search = new IncrementalSearch(model, searchThread::add, modelThread::add);
+        search.search("find Alice");
+        search.cancel();
+        run(searchThread);
+        run(modelThread);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+}
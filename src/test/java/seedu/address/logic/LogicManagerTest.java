@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,17 +14,24 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -36,11 +45,13 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String IMPORT_FILE_PATH = "./src/test/data/ImportTest/validTest.csv";
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +59,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -82,11 +93,106 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_commandFailsAfterChangingModel_savesChanges() throws Exception {
+        Path importFilePath = temporaryFolder.resolve("import.csv");
+        StringBuilder csv = new StringBuilder("NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n");
+        for (int i = 0; i < ImportCommand.BATCH_SIZE; i++) {
+            csv.append("Person ").append(i).append(",").append(10000000 + i).append(",p@mail.com,NUS,N/A,\n");
+        }
+        csv.append("Person 0,12345678,p@mail.com,NUS,N/A,\n");
+        Files.writeString(importFilePath, csv);
+
+        assertThrows(CommandException.class, () -> logic.execute(ImportCommand.COMMAND_WORD + " f/" + importFilePath));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals(ImportCommand.BATCH_SIZE, saved.getPersonList().size());
+    }
+
+    @Test
+    public void execute_backgroundCommand_finishesOnModelThread() throws Exception {
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        RecordingTaskListener listener = new RecordingTaskListener();
+        logic = new LogicManager(model, storage, modelThread::add);
+        logic.setTaskListener(listener);
+
+        CommandResult result = logic.execute(ImportCommand.COMMAND_WORD + " f/" + IMPORT_FILE_PATH);
+        assertEquals(String.format(LogicManager.MESSAGE_TASK_STARTED,
+                String.format(ImportCommand.MESSAGE_STARTED, IMPORT_FILE_PATH)), result.getFeedbackToUser());
+        // the model can only be changed by the import until it has finished
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_TASK_RUNNING);
+
+        runUntilFinished(modelThread, listener);
+        assertEquals(ImportCommand.MESSAGE_SUCCESS, listener.result.getFeedbackToUser());
+        assertEquals(3, model.getFilteredPersonList().size());
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertEquals(3, saved.getPersonList().size());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_cancelWhileRunning_changesBeforeCancelSaved() throws Exception {
+        Path importFilePath = temporaryFolder.resolve("import.csv");
+        StringBuilder csv = new StringBuilder("NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n");
+        for (int i = 0; i < 2 * ImportCommand.BATCH_SIZE; i++) {
+            csv.append("Person ").append(i).append(",").append(10000000 + i).append(",p@mail.com,NUS,N/A,\n");
+        }
+        Files.writeString(importFilePath, csv);
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        RecordingTaskListener listener = new RecordingTaskListener();
+        logic = new LogicManager(model, storage, modelThread::add);
+        logic.setTaskListener(listener);
+
+        logic.execute(ImportCommand.COMMAND_WORD + " f/" + importFilePath);
+        // no batch can be added before the model thread runs, so the import cannot finish before it is cancelled
+        assertEquals(CancelCommand.MESSAGE_CANCELLING, logic.execute(CancelCommand.COMMAND_WORD).getFeedbackToUser());
+
+        runUntilFinished(modelThread, listener);
+        assertTrue(listener.failure.getMessage().startsWith(ImportCommand.MESSAGE_CANCELLED));
+        assertTrue(model.getFilteredPersonList().size() < 2 * ImportCommand.BATCH_SIZE);
+        ReadOnlyAddressBook saved = storage.readAddressBook().orElse(new AddressBook());
+        assertEquals(model.getFilteredPersonList().size(), saved.getPersonList().size());
+    }
+
+    @Test
+    public void execute_cancelWithNothingRunning_throwsCommandException() {
+        assertCommandException(CancelCommand.COMMAND_WORD, CancelCommand.MESSAGE_NOTHING_TO_CANCEL);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    /**
+     * Runs the tasks passed to {@code modelThread} until the background command reported to {@code listener} ends.
+     */
+    private static void runUntilFinished(BlockingQueue<Runnable> modelThread, RecordingTaskListener listener)
+            throws InterruptedException {
+        while (listener.result == null && listener.failure == null) {
+            Runnable task = modelThread.poll(10, TimeUnit.SECONDS);
+            // the background command should have ended long before this times out
+            assertNotNull(task);
+            task.run();
+        }
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -172,4 +278,26 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * A listener that keeps the result of the background command it is told of.
+     */
+    private static class RecordingTaskListener implements TaskListener {
+        private CommandResult result;
+        private CommandException failure;
+
+        @Override
+        public void onProgress(String progressMessage) {
+        }
+
+        @Override
+        public void onSuccess(CommandResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public void onFailure(CommandException e) {
+            failure = e;
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class CancelCommandTest {
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_nothingRunning_failure() {
+        assertCommandFailure(new CancelCommand(), model, CancelCommand.MESSAGE_NOTHING_TO_CANCEL);
+    }
+}
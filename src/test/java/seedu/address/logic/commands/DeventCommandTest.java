@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.model.AddressBook.DEFAULT_EVENT_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class DeventCommandTest {
+
+    @Test
+    public void execute_currentEventDeleted_defaultEventReported() throws Exception {
+        Model model = new ModelManager();
+        model.addEventTag(MEETING);
+        new SwitchCommand(MEETING).execute(model);
+
+        CommandResult result = new DeventCommand(MEETING.tagName).execute(model);
+        assertEquals(Optional.of(DEFAULT_EVENT_TAG), result.getEventTag());
+        assertFalse(model.hasEventTag(MEETING.tagName));
+    }
+
+    @Test
+    public void execute_missingEventTag_throwsCommandException() {
+        assertThrows(CommandException.class, DeventCommand.MESSAGE_NO_EVENT_TAG, () ->
+                new DeventCommand(MEETING.tagName).execute(new ModelManager()));
+    }
+}
@@ -1,5 +1,295 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ExportCommand.
+ */
 public class ExportCommandTest {
-    //todo
+
+    private static final String IMPORT_FILE_PATH = "./src/test/data/ImportTest/validTest.csv";
+
+    @TempDir
+    public Path testFolder;
+
+    private static Model importedModel(String path) throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(path).execute(model);
+        return model;
+    }
+
+    @Test
+    public void execute_allColumns_importsBackToSamePersons() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String path = testFolder.resolve("export.csv").toString();
+
+        CommandResult result = new ExportCommand(path, ExportFormat.CSV, FIELDS, null, null).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, model.getFilteredPersonList().size(), path),
+                result.getFeedbackToUser());
+        // addresses containing commas are quoted, so they are read back whole
+        assertEquals(model.getAddressBook().getPersonList(), importedModel(path).getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_eventTags_definedOnFirstUse() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("export.csv").toString();
+
+        new ExportCommand(path, ExportFormat.CSV, FIELDS, null, null).execute(model);
+        Model reimported = importedModel(path);
+        assertEquals(model.getAddressBook().getPersonList(), reimported.getAddressBook().getPersonList());
+        assertEquals(model.getEventTag("orientation"), reimported.getEventTag("orientation"));
+        assertEquals(model.getEventTag("camping"), reimported.getEventTag("camping"));
+    }
+
+    @Test
+    public void execute_eventSheet_eventsWrittenOnceAndReferredByName() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("export.csv").toString();
+        String eventSheetPath = testFolder.resolve("events.csv").toString();
+
+        CommandResult result = new ExportCommand(path, ExportFormat.CSV, List.of("NAME", "EVENTS"), null, null,
+                eventSheetPath).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS_WITH_EVENT_SHEET, 3, path, 2, eventSheetPath),
+                result.getFeedbackToUser());
+        List<String> rows = Files.readAllLines(Path.of(path), StandardCharsets.UTF_8);
+        assertEquals("NAME,EVENTS", rows.get(0));
+        assertTrue(rows.get(1).equals("Tom,orientation|camping") || rows.get(1).equals("Tom,camping|orientation"));
+        assertEquals(List.of("John,orientation", "Ben,"), rows.subList(2, 4));
+        List<String> eventRows = Files.readAllLines(Path.of(eventSheetPath), StandardCharsets.UTF_8);
+        assertEquals(3, eventRows.size());
+        assertEquals("EVENT,DESCRIPTION,START,END", eventRows.get(0));
+        assertTrue(eventRows.contains("orientation,Orientation!,2024-04-04 02:02:02,2024-04-05 02:02:02"));
+    }
+
+    @Test
+    public void execute_eventSheet_importsBackInAnyOrder() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("export.csv").toString();
+        String eventSheetPath = testFolder.resolve("events.csv").toString();
+        new ExportCommand(path, ExportFormat.CSV, FIELDS, null, null, eventSheetPath).execute(model);
+
+        // the rows no longer depend on each other, so they can be imported in reverse order
+        List<String> rows = Files.readAllLines(Path.of(path), StandardCharsets.UTF_8);
+        Collections.reverse(rows.subList(1, rows.size()));
+        Files.write(Path.of(path), rows, StandardCharsets.UTF_8);
+
+        Model reimported = new ModelManager();
+        new ImportCommand(path, ImportCommand.Mode.ADD, eventSheetPath).execute(reimported);
+        assertEquals(Set.copyOf(model.getAddressBook().getPersonList()),
+                Set.copyOf(reimported.getAddressBook().getPersonList()));
+        assertEquals(model.getEventTag("orientation"), reimported.getEventTag("orientation"));
+        assertEquals(model.getEventTag("camping"), reimported.getEventTag("camping"));
+    }
+
+    @Test
+    public void execute_addressBookChangedDuringExport_snapshotExported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int personCount = model.getAddressBook().getPersonList().size();
+        Path path = testFolder.resolve("export.csv");
+        TaskContext changingContext = new TaskContext() {
+            @Override
+            public void reportProgress(int processedCount) {
+                // the user deletes a person while the first person is written
+                if (processedCount == 1) {
+                    model.deletePerson(model.getAddressBook().getPersonList().get(0));
+                }
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public void applyToModel(Runnable change) {
+                change.run();
+            }
+        };
+
+        new ExportCommand(path.toString(), ExportFormat.CSV, List.of("NAME"), null, null)
+                .execute(model, changingContext);
+        assertEquals(personCount + 1, Files.readAllLines(path, StandardCharsets.UTF_8).size());
+        assertEquals(personCount - 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_columnsAndEventFilter_onlyAttendeesExported() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("nested").resolve("camping.csv").toString();
+
+        CommandResult result = new ExportCommand(path, ExportFormat.CSV, List.of("EMAIL", "NAME"), null,
+                new Tag("camping")).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, path), result.getFeedbackToUser());
+        assertEquals(List.of("EMAIL,NAME", "hi@mail.com,Tom"),
+                Files.readAllLines(Path.of(path), StandardCharsets.UTF_8));
+        // the displayed list is not filtered by the export
+        assertEquals(3, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_tagAndEventFilter_personsMatchingBothExported() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("export.csv").toString();
+
+        new ExportCommand(path, ExportFormat.CSV, List.of("NAME"), new Tag("notcool"), new Tag("orientation"))
+                .execute(model);
+        assertEquals(List.of("NAME", "Tom", "John"), Files.readAllLines(Path.of(path), StandardCharsets.UTF_8));
+
+        new ExportCommand(path, ExportFormat.CSV, List.of("NAME"), new Tag("fine"), new Tag("orientation"))
+                .execute(model);
+        assertEquals(List.of("NAME", "Tom"), Files.readAllLines(Path.of(path), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_jsonLines_onePersonPerLine() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("export.jsonl").toString();
+
+        CommandResult result = new ExportCommand(path, ExportFormat.JSONL, List.of("NAME", "TAGS"), null,
+                new Tag("orientation")).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, path), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(Path.of(path), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"name\":\"Tom\",\"tags\":["));
+        assertEquals("{\"name\":\"John\",\"tags\":[\"notcool\"]}", lines.get(1));
+    }
+
+    @Test
+    public void execute_unknownTagOrEvent_failure() throws Exception {
+        Model model = importedModel(IMPORT_FILE_PATH);
+        String path = testFolder.resolve("export.csv").toString();
+
+        assertCommandFailure(new ExportCommand(path, ExportFormat.CSV, FIELDS, new Tag("unknown"), null), model,
+                Messages.MESSAGE_INVALID_TAG);
+        assertCommandFailure(new ExportCommand(path, ExportFormat.CSV, FIELDS, null, new Tag("unknown")), model,
+                SwitchCommand.MESSAGE_NO_EVENT_TAG);
+        assertFalse(Files.exists(Path.of(path)));
+    }
+
+    @Test
+    public void execute_tagDeletedBeforeModelRead_failure() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Tag tag = new Tag("neighbours");
+        model.addTag(tag);
+        Path path = testFolder.resolve("export.csv");
+        TaskContext deletingContext = new TaskContext() {
+            @Override
+            public void reportProgress(int processedCount) {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public void applyToModel(Runnable change) {
+                // the user deletes the tag before the export gets to read the model
+                if (model.hasTag(tag)) {
+                    model.deleteTag(tag);
+                }
+                change.run();
+            }
+        };
+
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_TAG, () ->
+                new ExportCommand(path.toString(), ExportFormat.CSV, FIELDS, tag, null)
+                        .execute(model, deletingContext));
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void execute_cancelled_fileUnchanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path path = testFolder.resolve("export.csv");
+        Files.writeString(path, "previous export");
+        TaskContext cancelledContext = new TaskContext() {
+            @Override
+            public void reportProgress(int processedCount) {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+
+            @Override
+            public void applyToModel(Runnable change) {
+                change.run();
+            }
+        };
+        long version = model.getAddressBookVersion();
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_CANCELLED, path), () ->
+                new ExportCommand(path.toString(), ExportFormat.CSV, FIELDS, null, null)
+                        .execute(model, cancelledContext));
+        assertEquals("previous export", Files.readString(path));
+        // the export only reads a snapshot of the model
+        assertEquals(version, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_fileCannotBeWritten_failure() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // a directory cannot be replaced by the exported file
+        Path directory = Files.createDirectories(testFolder.resolve("directory")).toAbsolutePath();
+        Files.createFile(directory.resolve("file"));
+
+        assertCommandFailure(new ExportCommand(directory.toString(), ExportFormat.CSV, FIELDS, null, null), model,
+                String.format(ExportCommand.MESSAGE_FAILURE, directory));
+        assertTrue(Files.isDirectory(directory));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, new Tag("friends"), null);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(
+                new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, new Tag("friends"), null)));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(
+                new ExportCommand("b.csv", ExportFormat.CSV, FIELDS, new Tag("friends"), null)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand("a.csv", ExportFormat.JSONL, FIELDS, new Tag("friends"), null)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand("a.csv", ExportFormat.CSV, List.of("NAME"), new Tag("friends"), null)));
+        assertFalse(exportCommand.equals(new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, null, null)));
+        assertFalse(exportCommand.equals(
+                new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, new Tag("friends"), new Tag("friends"))));
+        assertFalse(exportCommand.equals(
+                new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, new Tag("friends"), null, "events.csv")));
+        assertEquals(new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, null, null, ""),
+                new ExportCommand("a.csv", ExportFormat.CSV, FIELDS, null, null, ExportCommand.EVENT_SHEET_PATH));
+        assertEquals(new ExportCommand(),
+                new ExportCommand(ExportCommand.EXPORT_PATH, ExportFormat.CSV, FIELDS, null, null));
+        // the default path has the file extension of the format
+        assertEquals(new ExportCommand("", ExportFormat.VCARD, FIELDS, null, null),
+                new ExportCommand("./export/export.vcf", ExportFormat.VCARD, FIELDS, null, null));
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the time taken by a {@code FindCommand} as the number of persons grows, against testing the keywords on
+ * the name of every person.
+ * This is left out of the {@code test} task. Run it with the {@code benchmark} task, which prints the average time
+ * per find for each size. The filtered list still visits every person, so finds through the name index grow with the
+ * size too, but should stay well below the scan.
+ */
+@Tag("benchmark")
+public class FindCommandBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int FINDS = 20;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy"};
+
+    @Test
+    public void execute_growingAddressBook_indexedFindFasterThanScan() {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            measure(SIZES[0]);
+        }
+
+        System.out.println("   persons | index build ms | find ms (index) | find ms (scan)");
+        double[] result = null;
+        for (int size : SIZES) {
+            result = measure(size);
+            System.out.printf("%10d | %14.1f | %15.3f | %14.3f%n", size, result[0], result[1], result[2]);
+        }
+        assertTrue(result[1] < result[2], "A find through the index should be faster than a scan");
+    }
+
+    /**
+     * Returns the time in milliseconds taken to build the name index of an address book holding {@code size}
+     * persons, then the average times taken by a find through the index and by a find testing every person.
+     */
+    private static double[] measure(int size) {
+        Model model = new ModelManager(createAddressBook(size), new UserPrefs());
+
+        // the first find builds the index
+        long start = System.nanoTime();
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Person0")));
+        long buildTime = System.nanoTime() - start;
+
+        long indexTime = 0;
+        long scanTime = 0;
+        for (int i = 0; i < FINDS; i++) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+                    Arrays.asList("person" + (i * 7919 % size), "Tan" + i));
+
+            start = System.nanoTime();
+            new FindCommand(predicate).execute(model);
+            indexTime += System.nanoTime() - start;
+            int foundThroughIndex = model.getFilteredPersonList().size();
+
+            // wrapping the predicate hides it from the index, so that every person is tested
+            Predicate<Person> scan = predicate::test;
+            start = System.nanoTime();
+            model.updateFilteredPersonList(scan);
+            scanTime += System.nanoTime() - start;
+            assertEquals(foundThroughIndex, model.getFilteredPersonList().size());
+        }
+
+        return new double[] {buildTime / 1e6, indexTime / 1e6 / FINDS, scanTime / 1e6 / FINDS};
+    }
+
+    private static AddressBook createAddressBook(int size) {
+        PersonBuilder personBuilder = new PersonBuilder();
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(personBuilder.withName(FIRST_NAMES[i % FIRST_NAMES.length] + " Person" + i).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+        return addressBook;
+    }
+}
@@ -1,17 +1,449 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ImportRowParser;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ImportCommand.
  */
 public class ImportCommandTest {
 
+    private static final String VALID_FILE_PATH = "./src/test/data/ImportTest/validTest.csv";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_validFile_success() throws Exception {
+        Model model = new ModelManager();
+        long version = model.getAddressBookVersion();
+
+        CommandResult result = new ImportCommand(VALID_FILE_PATH).execute(model);
+        assertEquals(ImportCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        // all rows are added as a single change
+        assertEquals(version + 1, model.getAddressBookVersion());
+        assertEquals(3, model.getFilteredPersonList().size());
+
+        AddressBook addressBook = (AddressBook) model.getAddressBook();
+        Person tom = addressBook.getPerson(new Name("Tom"));
+        Person john = addressBook.getPerson(new Name("John"));
+        Person ben = addressBook.getPerson(new Name("Ben"));
+        EventTag orientation = model.getEventTag("orientation");
+        assertEquals(new EventTag("orientation", "Orientation!", LocalDateTime.parse("2024-04-04T02:02:02"),
+                LocalDateTime.parse("2024-04-05T02:02:02")), orientation);
+        assertTrue(model.hasEventTag("camping"));
+        assertEquals(2, tom.getEventTags().size());
+        assertSame(orientation, john.getEventTags().iterator().next());
+        assertTrue(ben.getEventTags().isEmpty());
+        assertTrue(tom.getTags().contains(new Tag("fine")));
+        assertTrue(model.hasTag(new Tag("notcool")));
+        assertTrue(ben.getTags().isEmpty());
+    }
+
+    @Test
+    public void execute_existingEventTagReferred_success() throws Exception {
+        Model model = new ModelManager();
+        EventTag camping = new EventTag("camping", "CAMP!!", LocalDateTime.parse("2024-04-04T02:02:02"),
+                LocalDateTime.parse("2024-04-05T02:02:02"));
+        model.addEventTag(camping);
+
+        new ImportCommand("./src/test/data/ImportTest/undefinedEventTest.csv").execute(model);
+        Person john = ((AddressBook) model.getAddressBook()).getPerson(new Name("John"));
+        assertSame(camping, john.getEventTags().iterator().next());
+    }
+
+    @Test
+    public void execute_quotedValues_success() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand("./src/test/data/ImportTest/quotedTest.csv").execute(model);
+
+        Person tom = ((AddressBook) model.getAddressBook()).getPerson(new Name("Tom"));
+        assertEquals("Blk 30, Geylang Street 29", tom.getAddress().value);
+        assertEquals("CAMP \"2024\", with tents", model.getEventTag("camping").description);
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_moreRowsThanBatchSize_allAdded() throws Exception {
+        int rowCount = ImportCommand.BATCH_SIZE * 2 + 1;
+        Path filePath = writeRows(rowCount, null);
+        Model model = new ModelManager();
+
+        new ImportCommand(filePath.toString()).execute(model);
+        assertEquals(rowCount, model.getFilteredPersonList().size());
+        assertEquals(3, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_invalidRowAfterFirstBatch_earlierBatchesAdded() {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        Model model = new ModelManager();
+
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, ImportCommand.BATCH_SIZE + 3, 2, "NUMBER",
+                        Phone.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_PARTIALLY_IMPORTED, ImportCommand.BATCH_SIZE)
+                + String.format(ImportCommand.MESSAGE_RESUMABLE, ImportCommand.BATCH_SIZE + 1), () ->
+                new ImportCommand(filePath.toString()).execute(model));
+        assertEquals(ImportCommand.BATCH_SIZE, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_fixedFileAfterFailure_continuesFromCheckpoint() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        Path checkpointPath = Path.of(filePath + ImportCommand.CHECKPOINT_SUFFIX);
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath.toString()).execute(model));
+        assertTrue(Files.exists(checkpointPath));
+
+        writeRows(ImportCommand.BATCH_SIZE + 1, "Valid Row,91234567,a@b.com,NUS,N/A,");
+        CommandResult result = new ImportCommand(filePath.toString()).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_RESUMED, ImportCommand.BATCH_SIZE + 1),
+                result.getFeedbackToUser());
+        assertEquals(ImportCommand.BATCH_SIZE + 2, model.getFilteredPersonList().size());
+        assertFalse(Files.exists(checkpointPath));
+    }
+
+    @Test
+    public void execute_cancelledAfterFirstBatch_continuesFromCheckpoint() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, null);
+        Model model = new ModelManager();
+        int[] reportedCount = new int[1];
+        // cancelled once the first batch has been added
+        TaskContext context = new TaskContext() {
+            @Override
+            public void reportProgress(int processedCount) {
+                reportedCount[0] = processedCount;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return reportedCount[0] > 0;
+            }
+
+            @Override
+            public void applyToModel(Runnable change) {
+                change.run();
+            }
+        };
+
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_CANCELLED
+                + String.format(ImportCommand.MESSAGE_PARTIALLY_IMPORTED, ImportCommand.BATCH_SIZE)
+                + String.format(ImportCommand.MESSAGE_RESUMABLE, ImportCommand.BATCH_SIZE + 1), () ->
+                new ImportCommand(filePath.toString()).execute(model, context));
+        assertEquals(ImportCommand.BATCH_SIZE, model.getFilteredPersonList().size());
+
+        CommandResult result = new ImportCommand(filePath.toString()).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_RESUMED, ImportCommand.BATCH_SIZE + 1),
+                result.getFeedbackToUser());
+        assertEquals(ImportCommand.BATCH_SIZE + 1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_failureInResumedImport_sameCheckpointKept() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath.toString()).execute(model));
+
+        // the error is reported with the row numbers and count of the whole file
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, ImportCommand.BATCH_SIZE + 3, 2, "NUMBER",
+                        Phone.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_PARTIALLY_IMPORTED, ImportCommand.BATCH_SIZE)
+                + String.format(ImportCommand.MESSAGE_RESUMABLE, ImportCommand.BATCH_SIZE + 1), () ->
+                new ImportCommand(filePath.toString()).execute(model));
+        assertEquals(ImportCommand.BATCH_SIZE, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_checkpointNotMatchingModel_importsFromFirstRow() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath.toString())
+                .execute(new ModelManager()));
+
+        writeRows(ImportCommand.BATCH_SIZE + 1, "Valid Row,91234567,a@b.com,NUS,N/A,");
+        Model model = new ModelManager();
+        CommandResult result = new ImportCommand(filePath.toString()).execute(model);
+        assertEquals(ImportCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(ImportCommand.BATCH_SIZE + 2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_fileChangedBeforeCheckpoint_importsFromFirstRow() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath.toString()).execute(model));
+
+        // a row inserted before the checkpoint moves the rows after it, so the rows already added are read again
+        String csv = Files.readString(filePath);
+        int firstRowStart = csv.indexOf('\n') + 1;
+        Files.writeString(filePath, csv.substring(0, firstRowStart) + "Inserted Row,91234567,a@b.com,NUS,N/A,\n"
+                + csv.substring(firstRowStart));
+        assertCommandFailure(new ImportCommand(filePath.toString()), model, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 3, 1, "NAME", AddCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void execute_emptyFile_failure() throws Exception {
+        Path filePath = testFolder.resolve("empty.csv");
+        Files.createFile(filePath);
+
+        assertCommandFailure(new ImportCommand(filePath.toString()), new ModelManager(),
+                ImportCommand.MESSAGE_FIELDS_FORMAT_ERROR);
+    }
+
+    @Test
+    public void execute_unclosedQuote_failure() throws Exception {
+        Path filePath = testFolder.resolve("unclosed.csv");
+        Files.writeString(filePath, "NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\nTom,\"9123,a@b.com,NUS,N/A,\n");
+
+        assertCommandFailure(new ImportCommand(filePath.toString()), new ModelManager(),
+                ImportCommand.MESSAGE_FIELDS_FORMAT_ERROR + "\n" + String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2));
+    }
+
+    @Test
+    public void execute_syncSameFileAgain_nothingChanged() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+        long version = model.getAddressBookVersion();
+
+        CommandResult result = new ImportCommand(VALID_FILE_PATH, ImportCommand.Mode.SYNC).execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SYNC_SUCCESS, 0, 0, 3, 0), result.getFeedbackToUser());
+        assertEquals(version, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_syncChangedFile_newAndChangedRowsApplied() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+        Person ben = model.getPerson(new Name("Ben"));
+        Person john = model.getPerson(new Name("John"));
+
+        CommandResult result = new ImportCommand(writeChangedRows().toString(), ImportCommand.Mode.SYNC)
+                .execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SYNC_SUCCESS, 1, 1, 1, 0), result.getFeedbackToUser());
+        assertEquals("99999999", model.getPerson(new Name("Tom")).getPhone().value);
+        assertTrue(model.getPerson(new Name("Tom")).getTags().contains(new Tag("newtag")));
+        assertTrue(model.hasTag(new Tag("newtag")));
+        assertSame(model.getEventTag("orientation"), model.getPerson(new Name("Amy")).getEventTags().iterator().next());
+        // unchanged persons and persons not in the file are left as they are
+        assertSame(john, model.getPerson(new Name("John")));
+        assertSame(ben, model.getPerson(new Name("Ben")));
+    }
+
+    @Test
+    public void execute_mirrorChangedFile_missingPersonsDeleted() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+
+        CommandResult result = new ImportCommand(writeChangedRows().toString(), ImportCommand.Mode.MIRROR)
+                .execute(model);
+        assertEquals(String.format(ImportCommand.MESSAGE_SYNC_SUCCESS, 1, 1, 1, 1), result.getFeedbackToUser());
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertNull(model.getPerson(new Name("Ben")));
+    }
+
+    @Test
+    public void execute_syncChangedEventDetails_failure() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+        Path filePath = testFolder.resolve("changedEvent.csv");
+        Files.writeString(filePath, "NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n"
+                + "Tom,91234812,hi@mail.com,NUS,t/E-orientation dc/Changed! sd/2024-04-04 02:02:02 "
+                + "ed/2024-04-05 02:02:02,notcool|fine\n");
+
+        assertCommandFailure(new ImportCommand(filePath.toString(), ImportCommand.Mode.SYNC), model,
+                ImportCommand.MESSAGE_EVENTS_FORMAT_ERROR + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 2, 5,
+                        "EVENTS", CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG));
+    }
+
+    @Test
+    public void execute_syncInvalidRowAfterFirstBatch_earlierBatchesSynced() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        Path checkpointPath = Path.of(filePath + ImportCommand.CHECKPOINT_SUFFIX);
+        Model model = new ModelManager();
+
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, ImportCommand.BATCH_SIZE + 3, 2, "NUMBER",
+                        Phone.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_PARTIALLY_SYNCED, ImportCommand.BATCH_SIZE), () ->
+                new ImportCommand(filePath.toString(), ImportCommand.Mode.SYNC).execute(model));
+        assertEquals(ImportCommand.BATCH_SIZE, model.getFilteredPersonList().size());
+        assertFalse(Files.exists(checkpointPath));
+    }
+
+    @Test
+    public void execute_syncRowOfPersonInEarlierBatch_failure() throws Exception {
+        Path filePath = writeRows(ImportCommand.BATCH_SIZE + 1, "Person 0,91234567,a@b.com,NUS,N/A,");
+        Model model = new ModelManager();
+
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, ImportCommand.BATCH_SIZE + 3, 1, "NAME",
+                        ImportCommand.MESSAGE_DUPLICATE_ROW)
+                + String.format(ImportCommand.MESSAGE_PARTIALLY_SYNCED, ImportCommand.BATCH_SIZE), () ->
+                new ImportCommand(filePath.toString(), ImportCommand.Mode.SYNC).execute(model));
+        assertEquals(ImportCommand.BATCH_SIZE, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_personInModelBeforeInvalidRow_personReported() throws Exception {
+        Path filePath = writeRows(2, "Invalid Row,notaphone,a@b.com,NUS,N/A,");
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Person 1").build());
+
+        assertCommandFailure(new ImportCommand(filePath.toString()), model, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 3, 1, "NAME", AddCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void execute_eventSheet_rowsReferToEventsInAnyOrder() throws Exception {
+        Path eventSheetPath = writeEventSheet("camping,CAMP!!,2024-04-04 02:02:02,2024-04-05 02:02:02\n");
+        Path filePath = testFolder.resolve("referring.csv");
+        Files.writeString(filePath, "NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n"
+                + "Tom,91234812,hi@mail.com,NUS,camping,\n"
+                + "John,91232345,john@john.com,NTU,camping,\n");
+        Model model = new ModelManager();
+
+        new ImportCommand(filePath.toString(), ImportCommand.Mode.ADD, eventSheetPath.toString()).execute(model);
+        EventTag camping = model.getEventTag("camping");
+        assertEquals(new EventTag("camping", "CAMP!!", LocalDateTime.parse("2024-04-04T02:02:02"),
+                LocalDateTime.parse("2024-04-05T02:02:02")), camping);
+        assertSame(camping, model.getPerson(new Name("Tom")).getEventTags().iterator().next());
+        assertSame(camping, model.getPerson(new Name("John")).getEventTags().iterator().next());
+    }
+
+    @Test
+    public void execute_eventSheetWithExistingEvent_existingEventReferred() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+        EventTag orientation = model.getEventTag("orientation");
+        Path eventSheetPath = writeEventSheet("orientation,Orientation!,2024-04-04 02:02:02,2024-04-05 02:02:02\n");
+        Path filePath = testFolder.resolve("referring.csv");
+        Files.writeString(filePath, "NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n"
+                + "Amy,81234567,amy@mail.com,SMU,orientation,\n");
+
+        new ImportCommand(filePath.toString(), ImportCommand.Mode.SYNC, eventSheetPath.toString()).execute(model);
+        assertSame(orientation, model.getPerson(new Name("Amy")).getEventTags().iterator().next());
+    }
+
+    @Test
+    public void execute_invalidEventSheet_nothingAdded() throws Exception {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+        String filePath = writeRows(1, null).toString();
+
+        Path eventSheetPath = writeEventSheet("orientation,Changed!,2024-04-04 02:02:02,2024-04-05 02:02:02\n");
+        assertCommandFailure(new ImportCommand(filePath, ImportCommand.Mode.SYNC, eventSheetPath.toString()), model,
+                ImportCommand.MESSAGE_EVENT_SHEET_VALUES_ERROR + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 2,
+                        1, "EVENT", CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG));
+
+        writeEventSheet("party,Party!,2024-04-04,2024-04-05 02:02:02\n");
+        assertCommandFailure(new ImportCommand(filePath, ImportCommand.Mode.ADD, eventSheetPath.toString()), model,
+                ImportCommand.MESSAGE_EVENT_SHEET_VALUES_ERROR + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 2,
+                        3, "START", String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, CtagCommand.MESSAGE_USAGE)));
+
+        Files.writeString(eventSheetPath, "NAME,DESCRIPTION,START,END\n");
+        assertCommandFailure(new ImportCommand(filePath, ImportCommand.Mode.ADD, eventSheetPath.toString()), model,
+                ImportCommand.MESSAGE_EVENT_SHEET_FORMAT_ERROR);
+
+        String missingPath = testFolder.resolve("missing.csv").toString();
+        assertCommandFailure(new ImportCommand(filePath, ImportCommand.Mode.ADD, missingPath), model,
+                String.format(ImportCommand.MESSAGE_EVENT_SHEET_NOT_FOUND, missingPath));
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void getProgressMessage() {
+        assertEquals("Importing: 2000 rows processed (1500 rows/s)",
+                new ImportCommand("a.csv").getProgressMessage(2000, 1499.6));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand("a.csv");
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand("a.csv", ImportCommand.Mode.ADD)));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ImportCommand("b.csv")));
+        assertFalse(importCommand.equals(new ImportCommand("a.csv", ImportCommand.Mode.SYNC)));
+        assertFalse(importCommand.equals(new ImportCommand("a.csv", ImportCommand.Mode.ADD, "events.csv")));
+        assertEquals(new ImportCommand(""), new ImportCommand(ImportCommand.DEFAULT_PATH));
+        assertEquals(new ImportCommand("a.csv", ImportCommand.Mode.ADD, ""),
+                new ImportCommand("a.csv", ImportCommand.Mode.ADD, ImportCommand.DEFAULT_EVENT_SHEET_PATH));
+    }
+
+    /**
+     * Writes a csv file with the rows of {@code VALID_FILE_PATH}, except that Tom has changed, Ben is left out and
+     * Amy is new.
+     */
+    private Path writeChangedRows() throws IOException {
+        Path filePath = testFolder.resolve("changed.csv");
+        Files.writeString(filePath, "NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n"
+                + "Tom,99999999,hi@mail.com,NUS,t/E-orientation dc/Orientation! sd/2024-04-04 02:02:02 "
+                + "ed/2024-04-05 02:02:02|camping,notcool|newtag\n"
+                + "John,91232345,john@john.com,NTU,orientation,notcool\n"
+                + "Amy,81234567,amy@mail.com,SMU,orientation,\n");
+        return filePath;
+    }
+
+    /**
+     * Writes an event sheet with the given rows after its row of fields.
+     */
+    private Path writeEventSheet(String rows) throws IOException {
+        Path eventSheetPath = testFolder.resolve("events.csv");
+        Files.writeString(eventSheetPath, "EVENT,DESCRIPTION,START,END\n" + rows);
+        return eventSheetPath;
+    }
+
+    /**
+     * Writes a csv file with {@code rowCount} valid rows, followed by {@code lastRow} if it is not null.
+     */
+    private Path writeRows(int rowCount, String lastRow) {
+        Path filePath = testFolder.resolve("rows.csv");
+        StringBuilder csv = new StringBuilder("NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\n");
+        for (int i = 0; i < rowCount; i++) {
+            csv.append("Person ").append(i).append(",9").append(1000000 + i).append(",p").append(i)
+                    .append("@mail.com,NUS,N/A,friends\n");
+        }
+        if (lastRow != null) {
+            csv.append(lastRow).append("\n");
+        }
+        try {
+            Files.writeString(filePath, csv);
+        } catch (IOException e) {
+            throw new AssertionError("Writing the csv file should not fail.", e);
+        }
+        return filePath;
+    }
+
     @Test
     public void execute_invalidFilePath_failure() {
         Model model = new ModelManager();
@@ -24,7 +456,8 @@ public class ImportCommandTest {
         Model model = new ModelManager();
 
         assertCommandFailure(new ImportCommand("./src/test/data/ImportTest/invalidValueTest.csv"),
-                model, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR);
+                model, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                        + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 2, 6, "TAGS", Tag.MESSAGE_CONSTRAINTS));
     }
 
     @Test
@@ -35,4 +468,53 @@ public class ImportCommandTest {
                 model, ImportCommand.MESSAGE_FIELDS_FORMAT_ERROR);
     }
 
+    @Test
+    public void execute_duplicatePersonInFile_nothingAdded() {
+        Model model = new ModelManager();
+
+        assertCommandFailure(new ImportCommand("./src/test/data/ImportTest/duplicatePersonTest.csv"),
+                model, ImportCommand.MESSAGE_VALUES_FORMAT_ERROR
+                        + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 3, 1, "NAME",
+                                ImportCommand.MESSAGE_DUPLICATE_ROW));
+    }
+
+    @Test
+    public void execute_eventTagsAlreadyDefined_nothingAdded() throws CommandException {
+        Model model = new ModelManager();
+        new ImportCommand(VALID_FILE_PATH).execute(model);
+
+        assertCommandFailure(new ImportCommand(VALID_FILE_PATH), model, ImportCommand.MESSAGE_EVENTS_FORMAT_ERROR
+                + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 2, 5, "EVENTS",
+                        CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG));
+    }
+
+    @Test
+    public void execute_personAlreadyInModel_nothingAdded() throws Exception {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("John").build());
+
+        assertCommandFailure(new ImportCommand(VALID_FILE_PATH), model,
+                ImportCommand.MESSAGE_VALUES_FORMAT_ERROR + String.format(ImportCommand.MESSAGE_VALUE_ERROR, 3, 1,
+                        "NAME", AddCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void execute_missingValues_failure() throws Exception {
+        Path filePath = testFolder.resolve("short.csv");
+        Files.writeString(filePath, "NAME,NUMBER,EMAIL,ADDRESS,EVENTS,TAGS\nTom,91234567,a@b.com\n");
+
+        assertCommandFailure(new ImportCommand(filePath.toString()), new ModelManager(),
+                ImportCommand.MESSAGE_VALUES_FORMAT_ERROR + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2,
+                        ImportRowParser.MESSAGE_INVALID_ROW_LENGTH));
+    }
+
+    @Test
+    public void execute_undefinedEventTag_nothingAdded() {
+        Model model = new ModelManager();
+
+        assertCommandFailure(new ImportCommand("./src/test/data/ImportTest/undefinedEventTest.csv"),
+                model, ImportCommand.MESSAGE_EVENTS_FORMAT_ERROR + String.format(ImportCommand.MESSAGE_VALUE_ERROR,
+                        3, 5, "EVENTS", AssignCommand.MESSAGE_ASSIGN_TAG_MISSING));
+    }
+
 }
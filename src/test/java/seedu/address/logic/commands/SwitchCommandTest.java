@@ -10,6 +10,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -19,9 +20,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.EventTag;
 import seedu.address.model.tag.Tag;
@@ -123,6 +126,26 @@ public class SwitchCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPerson(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -133,6 +156,16 @@ public class SwitchCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -154,7 +187,7 @@ public class SwitchCommandTest {
         }
 
         @Override
-        public void assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags) {
+        public Person assign(Person targetPerson, Set<Tag> tags, Set<Tag> eventTags) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -204,11 +237,26 @@ public class SwitchCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNameWords(List<String> words, String wordPrefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableSet<EventTag> getEventTagList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<EventTag> getSortedEventTagList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateEventTagPersonList(EventTag t) {
             throw new AssertionError("This method should not be called.");
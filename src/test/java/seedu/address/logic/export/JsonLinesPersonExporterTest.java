@@ -0,0 +1,53 @@
+package seedu.address.logic.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonLinesPersonExporterTest {
+
+    private static String export(List<String> columns, Person... persons) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PersonExporter exporter = ExportFormat.JSONL.createExporter(out, columns)) {
+            for (Person person : persons) {
+                exporter.write(person);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void write_allColumns_oneObjectPerLine() throws Exception {
+        Person person = new PersonBuilder(ALICE).withAddress("say \"hi\", there")
+                .withEventTags("camp|Camp,\nwith fire|2024-04-01T09:00:00|2024-04-02T18:30:00").build();
+
+        assertEquals("{\"name\":\"Alice Pauline\",\"number\":\"94351253\",\"email\":\"alice@example.com\","
+                + "\"address\":\"say \\\"hi\\\", there\",\"events\":[{\"name\":\"camp\","
+                + "\"description\":\"Camp,\\nwith fire\",\"start\":\"2024-04-01T09:00:00\","
+                + "\"end\":\"2024-04-02T18:30:00\"}],\"tags\":[\"friends\"]}\n"
+                + "{\"name\":\"Carl Kurz\",\"number\":\"95352563\",\"email\":\"heinz@example.com\","
+                + "\"address\":\"wall street\",\"events\":[],\"tags\":[]}\n",
+                export(FIELDS, person, CARL));
+    }
+
+    @Test
+    public void write_selectedColumns_onlyThoseKeysInOrder() throws Exception {
+        assertEquals("{\"email\":\"alice@example.com\",\"name\":\"Alice Pauline\"}\n",
+                export(List.of("EMAIL", "NAME"), ALICE));
+    }
+
+    @Test
+    public void close_noPersons_emptyOutput() throws Exception {
+        assertEquals("", export(FIELDS));
+    }
+}
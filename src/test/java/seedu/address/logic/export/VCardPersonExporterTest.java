@@ -0,0 +1,64 @@
+package seedu.address.logic.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VCardPersonExporterTest {
+
+    private static String export(List<String> columns, Person... persons) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PersonExporter exporter = ExportFormat.VCARD.createExporter(out, columns)) {
+            for (Person person : persons) {
+                exporter.write(person);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void write_allColumns_oneCardPerPerson() throws Exception {
+        Person person = new PersonBuilder(ALICE)
+                .withEventTags("camp|Camp, with fire|2024-04-01T09:00:00|2024-04-02T18:30:00").build();
+
+        assertEquals("BEGIN:VCARD\r\nVERSION:4.0\r\nFN:Alice Pauline\r\nTEL:94351253\r\n"
+                + "EMAIL:alice@example.com\r\nADR:;;123\\, Jurong West Ave 6\\, #08-111;;;;\r\n"
+                + "X-EVENT:camp\r\nCATEGORIES:friends\r\nEND:VCARD\r\n", export(FIELDS, person));
+    }
+
+    @Test
+    public void write_selectedColumns_nameAlwaysWritten() throws Exception {
+        assertEquals("BEGIN:VCARD\r\nVERSION:4.0\r\nFN:Alice Pauline\r\nEMAIL:alice@example.com\r\nEND:VCARD\r\n",
+                export(List.of("EMAIL"), ALICE));
+    }
+
+    @Test
+    public void write_specialCharacters_escaped() throws Exception {
+        Person person = new PersonBuilder(ALICE).withAddress("a;b\\c,d").withTags().build();
+        assertEquals("BEGIN:VCARD\r\nVERSION:4.0\r\nFN:Alice Pauline\r\nADR:;;a\\;b\\\\c\\,d;;;;\r\n"
+                + "END:VCARD\r\n", export(List.of("ADDRESS", "TAGS"), person));
+    }
+
+    @Test
+    public void write_longLine_foldedWithoutSplittingCharacters() throws Exception {
+        // 3 octets per character in UTF-8
+        String address = "\u4e00".repeat(30);
+        String exported = export(List.of("ADDRESS"), new PersonBuilder(ALICE).withAddress(address).build());
+
+        for (String line : exported.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        // "ADR:;;" takes 6 octets, leaving room for 23 characters on the first line
+        assertTrue(exported.contains("ADR:;;" + "\u4e00".repeat(23) + "\r\n " + "\u4e00".repeat(7) + ";;;;\r\n"));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CtagCommand;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+public class CtagCommandParserTest {
+
+    private static final String INVALID_FORMAT_MESSAGE =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, CtagCommand.MESSAGE_USAGE);
+
+    private CtagCommandParser parser = new CtagCommandParser();
+
+    @Test
+    public void parse_singleWord_returnsTagCommand() {
+        assertParseSuccess(parser, " friends", new CtagCommand(new Tag("friends"), null));
+    }
+
+    @Test
+    public void parse_eventTagArgs_returnsEventTagCommand() {
+        EventTag eventTag = new EventTag("orientation", "Orientation!",
+                LocalDateTime.parse("2024-04-04T02:02:02"), LocalDateTime.parse("2024-04-05T02:02:02"));
+        assertParseSuccess(parser, " t/E-orientation dc/Orientation! sd/2024-04-04 02:02:02 ed/2024-04-05 02:02:02",
+                new CtagCommand(null, eventTag));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", INVALID_FORMAT_MESSAGE);
+        // several words without the event tag prefixes
+        assertParseFailure(parser, " two words", INVALID_FORMAT_MESSAGE);
+        // event tag without an end date
+        assertParseFailure(parser, " t/E-orientation dc/Orientation! sd/2024-04-04 02:02:02", INVALID_FORMAT_MESSAGE);
+    }
+}
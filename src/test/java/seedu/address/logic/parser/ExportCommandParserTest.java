@@ -0,0 +1,86 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.ImportExportSyntax.FIELDS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.model.tag.Tag;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_noArgs_exportsAllColumnsToDefaultPath() {
+        assertParseSuccess(parser, "", new ExportCommand());
+        assertParseSuccess(parser, " f/", new ExportCommand("", ExportFormat.CSV, FIELDS, null, null));
+    }
+
+    @Test
+    public void parse_allArgs_success() {
+        ExportCommand expected = new ExportCommand("out/attendees.csv", ExportFormat.CSV, List.of("EMAIL", "NAME"),
+                new Tag("friends"), new Tag("orientation"));
+        assertParseSuccess(parser, " f/out/attendees.csv c/email c/Name t/friends ev/orientation", expected);
+        assertParseSuccess(parser, " ev/orientation c/EMAIL t/friends c/NAME f/out/attendees.csv", expected);
+    }
+
+    @Test
+    public void parse_format_success() {
+        assertParseSuccess(parser, " fmt/JSONL", new ExportCommand("", ExportFormat.JSONL, FIELDS, null, null));
+        assertParseSuccess(parser, " fmt/vcard c/name f/a.vcf",
+                new ExportCommand("a.vcf", ExportFormat.VCARD, List.of("NAME"), null, null));
+    }
+
+    @Test
+    public void parse_eventSheet_success() {
+        assertParseSuccess(parser, " es/", new ExportCommand("", ExportFormat.CSV, FIELDS, null, null, ""));
+        assertParseSuccess(parser, " fmt/csv es/out/events.csv",
+                new ExportCommand("", ExportFormat.CSV, FIELDS, null, null, "out/events.csv"));
+    }
+
+    @Test
+    public void parse_eventSheetWithOtherFormat_failure() {
+        assertParseFailure(parser, " fmt/jsonl es/", ExportCommandParser.MESSAGE_EVENT_SHEET_FORMAT);
+        assertParseFailure(parser, " es/a.csv es/b.csv",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_EVENT_SHEET));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        assertParseFailure(parser, " fmt/xml", ExportCommandParser.MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " fmt/csv fmt/jsonl",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FORMAT));
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " export.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidColumns_failure() {
+        assertParseFailure(parser, " c/NAME c/PHONE", ExportCommandParser.MESSAGE_INVALID_COLUMN);
+        assertParseFailure(parser, " c/NAME c/name", ExportCommandParser.MESSAGE_DUPLICATE_COLUMN);
+    }
+
+    @Test
+    public void parse_invalidTags_failure() {
+        assertParseFailure(parser, " t/two words", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ev/or!entation", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedSingleValuedPrefix_failure() {
+        assertParseFailure(parser, " ev/orientation ev/camping",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_EVENT));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportCommand.Mode;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_pathOnly_addMode() {
+        assertParseSuccess(parser, " f/a.csv", new ImportCommand("a.csv", Mode.ADD));
+        assertParseSuccess(parser, " f/", new ImportCommand(ImportCommand.DEFAULT_PATH, Mode.ADD));
+    }
+
+    @Test
+    public void parse_mode_success() {
+        assertParseSuccess(parser, " f/a.csv m/sync", new ImportCommand("a.csv", Mode.SYNC));
+        assertParseSuccess(parser, " m/Mirror f/a.csv", new ImportCommand("a.csv", Mode.MIRROR));
+        assertParseSuccess(parser, " f/a.csv m/add", new ImportCommand("a.csv", Mode.ADD));
+    }
+
+    @Test
+    public void parse_eventSheet_success() {
+        assertParseSuccess(parser, " f/a.csv es/events.csv", new ImportCommand("a.csv", Mode.ADD, "events.csv"));
+        assertParseSuccess(parser, " es/ m/sync f/a.csv",
+                new ImportCommand("a.csv", Mode.SYNC, ImportCommand.DEFAULT_EVENT_SHEET_PATH));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, " m/sync", invalidFormat);
+        assertParseFailure(parser, " a.csv f/b.csv", invalidFormat);
+        assertParseFailure(parser, " f/a.csv m/merge", ImportCommandParser.MESSAGE_INVALID_MODE);
+        assertParseFailure(parser, " f/a.csv m/sync m/add",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_MODE));
+        assertParseFailure(parser, " f/a.csv es/a.csv es/b.csv",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_EVENT_SHEET));
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AssignCommand;
+import seedu.address.logic.commands.CtagCommand;
+import seedu.address.logic.parser.ImportRowParser.ParsedRow;
+import seedu.address.logic.parser.exceptions.CsvParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+
+public class ImportRowParserTest {
+
+    private static final String CAMPING_DEFINITION =
+            "t/E-camping dc/Camp sd/2024-04-04 02:02:02 ed/2024-04-05 02:02:02";
+
+    private final Model model = new ModelManager();
+    private final ImportRowParser parser = new ImportRowParser(model.getAddressBook());
+
+    private static List<String> row(String name, String email, String events, String tags) {
+        return Arrays.asList(name, "91234567", email, "NUS", events, tags);
+    }
+
+    private CsvParseException getParseValuesError(List<String> row) {
+        try {
+            parser.parseValues(row);
+        } catch (CsvParseException e) {
+            return e;
+        }
+        throw new AssertionError("The row should not be parsed.");
+    }
+
+    private CsvParseException getDefineEventTagError(List<String> sheetRow) {
+        try {
+            parser.defineEventTag(sheetRow);
+        } catch (CsvParseException e) {
+            return e;
+        }
+        throw new AssertionError("The event sheet row should not be parsed.");
+    }
+
+    @Test
+    public void parse_validRow_success() throws Exception {
+        Person person = parser.parse(row("Tom", "tom@mail.com", "N/A", "friends|colleagues"));
+        assertEquals(new Name("Tom"), person.getName());
+        assertEquals(2, person.getTags().size());
+        assertTrue(person.getEventTags().isEmpty());
+    }
+
+    @Test
+    public void parseValues_invalidValue_throwsWithColumn() {
+        CsvParseException e = getParseValuesError(row("Tom", "not an email", "N/A", ""));
+        assertEquals(ImportRowParser.EMAIL_INDEX, e.getColumnIndex());
+        assertEquals(Email.MESSAGE_CONSTRAINTS, e.getMessage());
+    }
+
+    @Test
+    public void parseValues_tooFewValues_throwsForWholeRow() {
+        CsvParseException e = getParseValuesError(Arrays.asList("Tom", "91234567"));
+        assertEquals(CsvParseException.WHOLE_ROW, e.getColumnIndex());
+    }
+
+    @Test
+    public void resolve_eventTagDefinedByEarlierRow_sameEventTag() throws Exception {
+        ParsedRow first = parser.parseValues(row("Tom", "tom@mail.com", CAMPING_DEFINITION, ""));
+        ParsedRow second = parser.parseValues(row("Ben", "ben@mail.com", "camping", ""));
+
+        EventTag camping = parser.resolve(first).getEventTags().iterator().next();
+        assertSame(camping, parser.resolve(second).getEventTags().iterator().next());
+    }
+
+    @Test
+    public void resolve_eventTagReferredBeforeDefinition_throwsCsvParseException() throws Exception {
+        ParsedRow first = parser.parseValues(row("Tom", "tom@mail.com", CAMPING_DEFINITION, ""));
+        ParsedRow second = parser.parseValues(row("Ben", "ben@mail.com", "camping", ""));
+
+        assertThrows(CsvParseException.class, AssignCommand.MESSAGE_ASSIGN_TAG_MISSING, () -> parser.resolve(second));
+        parser.resolve(first);
+        assertThrows(CsvParseException.class, CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG, () -> parser.resolve(first));
+    }
+
+    @Test
+    public void defineEventTag_sheetRow_referredByLaterRows() throws Exception {
+        ParsedRow referring = parser.parseValues(row("Ben", "ben@mail.com", "camping", ""));
+        parser.defineEventTag(List.of("camping", "Camp", "2024-04-04 02:02:02", "2024-04-05 02:02:02", ""));
+
+        EventTag camping = parser.resolve(referring).getEventTags().iterator().next();
+        assertEquals(new EventTag("camping", "Camp", LocalDateTime.parse("2024-04-04T02:02:02"),
+                LocalDateTime.parse("2024-04-05T02:02:02")), camping);
+        assertThrows(CsvParseException.class, CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG, () -> parser.defineEventTag(
+                List.of("camping", "Other", "2024-04-04 02:02:02", "2024-04-05 02:02:02")));
+    }
+
+    @Test
+    public void defineEventTag_sameAsModel_eventTagInModelReferred() throws Exception {
+        EventTag camping = new EventTag("camping", "Camp", LocalDateTime.parse("2024-04-04T02:02:02"),
+                LocalDateTime.parse("2024-04-05T02:02:02"));
+        model.addEventTag(camping);
+
+        ImportRowParser parser = new ImportRowParser(model.getSnapshot());
+        parser.defineEventTag(List.of("camping", "Camp", "2024-04-04 02:02:02", "2024-04-05 02:02:02"));
+        assertSame(camping, parser.parse(row("Ben", "ben@mail.com", "camping", "")).getEventTags().iterator().next());
+        ImportRowParser otherParser = new ImportRowParser(model.getSnapshot());
+        assertThrows(CsvParseException.class, CtagCommand.MESSAGE_DUPLICATE_EVENT_TAG, () -> otherParser
+                .defineEventTag(List.of("camping", "Changed", "2024-04-04 02:02:02", "2024-04-05 02:02:02")));
+
+        // event tags added to the model afterwards are not seen by the parser, which never reads the model
+        model.addEventTag(new EventTag("hiking", "Hike", camping.startDate, camping.endDate));
+        assertThrows(CsvParseException.class, AssignCommand.MESSAGE_ASSIGN_TAG_MISSING, () ->
+                parser.parse(row("Tom", "tom@mail.com", "hiking", "")));
+    }
+
+    @Test
+    public void defineEventTag_invalidSheetRow_throwsWithColumn() {
+        CsvParseException e = getDefineEventTagError(List.of("camping", "Camp", "tomorrow", "2024-04-05 02:02:02"));
+        assertEquals(ImportRowParser.EVENT_START_INDEX, e.getColumnIndex());
+        e = getDefineEventTagError(List.of("camping", "Camp"));
+        assertEquals(CsvParseException.WHOLE_ROW, e.getColumnIndex());
+    }
+}
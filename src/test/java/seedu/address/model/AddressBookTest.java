@@ -3,11 +3,16 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTags.FRIEND;
 
@@ -31,6 +36,7 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.exceptions.DuplicateTagException;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonRecordsStub;
 
 public class AddressBookTest {
 
@@ -164,6 +170,191 @@ public class AddressBookTest {
         assertDoesNotThrow(() -> addressBook.removeTag(FRIEND));
     }
 
+    @Test
+    public void getPersonsWithTag_personAdded_containsPerson() {
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getPersonsWithTag(FRIEND).contains(ALICE));
+        assertFalse(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)).contains(ALICE));
+    }
+
+    @Test
+    public void getPersonsWithTag_personEditedOrRemoved_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithTag(FRIEND).isEmpty());
+        assertTrue(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)).contains(editedAlice));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND)).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameToken_personAdded_containsPersonIgnoringCase() {
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getPersonsWithNameToken("alice").contains(ALICE));
+        assertTrue(addressBook.getPersonsWithNameToken("PAULINE").contains(ALICE));
+        assertTrue(addressBook.getPersonsWithNameToken("Ali").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameToken_personEditedOrRemoved_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithNameToken("Pauline").isEmpty());
+        assertTrue(addressBook.getPersonsWithNameToken("tan").contains(editedAlice));
+        assertTrue(addressBook.getPersonsWithNameToken("Alice").contains(editedAlice));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsWithNameToken("Alice").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameToken_personsChangedAfterLookup_returnedSetUnchanged() {
+        addressBook.addPerson(ALICE);
+        Set<Person> persons = addressBook.getPersonsWithNameToken("alice");
+        addressBook.removePerson(ALICE);
+        Person otherAlice = new PersonBuilder(BENSON).withName("Alice Tan").build();
+        addressBook.addPerson(otherAlice);
+
+        assertEquals(Set.of(ALICE), persons);
+        assertEquals(Set.of(otherAlice), addressBook.getPersonsWithNameToken("alice"));
+    }
+
+    @Test
+    public void getPersonsWithNameTokenPrefix_typicalPersons_personsWithWordStartingWithPrefix() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(Set.of(BENSON, DANIEL, ELLE),
+                new HashSet<>(typicalAddressBook.getPersonsWithNameTokenPrefix("mE")));
+        assertEquals(List.of(DANIEL), typicalAddressBook.getPersonsWithNameTokenPrefix("daniel"));
+        assertTrue(typicalAddressBook.getPersonsWithNameTokenPrefix("Meiers").isEmpty());
+    }
+
+    @Test
+    public void getIndexedKeyCount_lookupsAndRemovals_noEntriesLeftBehind() {
+        addressBook.addPerson(ALICE);
+        int keyCount = addressBook.getIndexedKeyCount();
+        addressBook.getPersonsWithNameToken("Bob");
+        addressBook.getPersonsWithTag(new Tag(VALID_TAG_HUSBAND));
+        assertEquals(keyCount, addressBook.getIndexedKeyCount());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        assertEquals(keyCount, addressBook.getIndexedKeyCount());
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertEquals(0, addressBook.getIndexedKeyCount());
+    }
+
+    @Test
+    public void removeTag_tagHeldByPerson_removesTagFromPersonAndIndex() {
+        Person person = new PersonBuilder().withTags("friends").build();
+        addressBook.addPerson(person);
+        addressBook.removeTag(FRIEND);
+        assertFalse(addressBook.getPersonList().get(0).containsTag(FRIEND));
+        assertTrue(addressBook.getPersonsWithTag(FRIEND).isEmpty());
+        // persons are immutable, so the removed person is unchanged
+        assertTrue(person.containsTag(FRIEND));
+    }
+
+    @Test
+    public void assign_eventTag_indexesPerson() {
+        Person person = new PersonBuilder().build();
+        addressBook.addPerson(person);
+        addressBook.addEventTag(MEETING);
+        Person assignedPerson = addressBook.assign(person, new HashSet<>(),
+                new HashSet<>(Arrays.asList(new Tag(MEETING.tagName))));
+        assertSame(assignedPerson, addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getPersonsWithEventTag(MEETING).contains(assignedPerson));
+        assertFalse(person.containsEventTag(MEETING));
+
+        addressBook.removeEventTag(MEETING);
+        assertFalse(addressBook.getPersonList().get(0).containsEventTag(MEETING));
+        assertTrue(addressBook.getPersonsWithEventTag(MEETING).isEmpty());
+    }
+
+    @Test
+    public void assign_tagsAlreadyHeld_personNotReplaced() {
+        addressBook.addPerson(ALICE);
+        assertSame(ALICE, addressBook.assign(ALICE, new HashSet<>(Arrays.asList(FRIEND)), new HashSet<>()));
+        assertSame(ALICE, addressBook.getPersonList().get(0));
+    }
+
+
+    @Test
+    public void constructor_personRecords_indexesPersonsWhenNeeded() {
+        PersonRecordsStub records = new PersonRecordsStub(Arrays.asList(ALICE, BENSON));
+        AddressBook lazyAddressBook = new AddressBook(records);
+        AddressBook copy = new AddressBook(lazyAddressBook);
+        assertEquals(2, copy.getPersonList().size());
+        assertEquals(0, records.getReadCount());
+
+        Set<Person> friends = copy.getPersonsWithTag(FRIEND);
+        assertEquals(2, records.getReadCount());
+        assertTrue(friends.contains(copy.getPersonList().get(0)));
+        assertTrue(friends.contains(copy.getPersonList().get(1)));
+    }
+
+    @Test
+    public void snapshot_personRecords_personsNotLoaded() {
+        PersonRecordsStub records = new PersonRecordsStub(Arrays.asList(ALICE, BENSON));
+        AddressBook lazyAddressBook = new AddressBook(records);
+        AddressBookSnapshot snapshot = lazyAddressBook.snapshot(1);
+        assertEquals(0, records.getReadCount());
+
+        lazyAddressBook.removePerson(lazyAddressBook.getPersonList().get(0));
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(1, snapshot.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_changesBetweenSnapshots_changesInOrder() {
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        addressBook.addTag(FRIEND);
+        AddressBookSnapshot earlier = addressBook.snapshot(1);
+
+        Person renamed = new PersonBuilder(amy).withName("Amy Tan").withTags("friends").build();
+        addressBook.setPerson(amy, renamed);
+        addressBook.removeTag(FRIEND);
+        AddressBookSnapshot later = addressBook.snapshot(2);
+
+        List<AddressBookChange> changes = later.getChangesSince(earlier).get();
+        assertEquals(3, changes.size());
+        assertEquals(AddressBookChange.Kind.PUT_PERSON, changes.get(0).getKind());
+        assertSame(renamed, changes.get(0).getPerson());
+        assertEquals(amy.getName(), changes.get(0).getName());
+        // removing a tag records the persons it was removed from before the tag itself
+        assertEquals(AddressBookChange.Kind.PUT_PERSON, changes.get(1).getKind());
+        assertSame(addressBook.getPersonList().get(0), changes.get(1).getPerson());
+        assertEquals(AddressBookChange.Kind.REMOVE_TAG, changes.get(2).getKind());
+
+        assertTrue(later.getChangesSince(later).get().isEmpty());
+        assertFalse(earlier.getChangesSince(later).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_addressBookReset_changesNotKnown() {
+        AddressBookSnapshot earlier = addressBook.snapshot(1);
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addTag(new Tag("neighbours"));
+
+        assertFalse(addressBook.snapshot(2).getChangesSince(earlier).isPresent());
+        assertFalse(addressBook.snapshot(2).getChangesSince(getTypicalAddressBook().snapshot(1)).isPresent());
+    }
+
+    @Test
+    public void copyConstructor_addressBook_equalAndIndexed() {
+        Person person = new PersonBuilder().withTags("friends").build();
+        addressBook.addPerson(person);
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook, copy);
+        assertTrue(copy.getPersonsWithTag(FRIEND).contains(person));
+
+        copy.removeTag(FRIEND);
+        assertFalse(copy.getPersonList().get(0).containsTag(FRIEND));
+        assertTrue(copy.getPersonsWithTag(FRIEND).isEmpty());
+        assertTrue(addressBook.getPersonsWithTag(FRIEND).contains(person));
+    }
 
     @Test
     public void toStringMethod() {
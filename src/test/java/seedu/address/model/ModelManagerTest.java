@@ -2,21 +2,33 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.BIRTHDAY;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
+import static seedu.address.testutil.TypicalEventTags.PRESENTATION;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalTags.FRIEND;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +100,124 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookVersion_addressBookModified_versionChanges() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.addPerson(ALICE);
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void getAddressBookVersion_filterUpdated_versionUnchanged() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void getSnapshot_addressBookUnchanged_sameSnapshot() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot snapshot = modelManager.getSnapshot();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertSame(snapshot, modelManager.getSnapshot());
+        assertEquals(modelManager.getAddressBookVersion(), snapshot.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_addressBookModified_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addTag(new Tag("colleagues"));
+        AddressBookSnapshot snapshot = modelManager.getSnapshot();
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.deleteTag(new Tag("colleagues"));
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.getTagList().contains(new Tag("colleagues")));
+        assertEquals(List.of(BENSON), modelManager.getSnapshot().getPersonList());
+        assertNotEquals(snapshot.getVersion(), modelManager.getSnapshot().getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_matchesIgnoringCase() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier", "Carl")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsChangedAfterFind_filterFollowsChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        assertEquals(List.of(aliceMeier), modelManager.getFilteredPersonList());
+        modelManager.deletePerson(aliceMeier);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateTagPersonList_taggedPersonsEdited_shownWhileTagged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateTagPersonList(FRIEND);
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        Person untaggedBenson = new PersonBuilder(BENSON).withTags().build();
+        modelManager.updatePersons(List.of(BENSON), List.of(untaggedBenson));
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateEventTagPersonList_personAtEventEdited_stillShown() {
+        Person alice = ALICE.withAddedTags(Set.of(), Set.of(MEETING));
+        modelManager.addPerson(alice);
+        modelManager.addPerson(BENSON);
+        modelManager.updateEventTagPersonList(MEETING);
+        assertEquals(List.of(alice), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(alice).withAddress(VALID_ADDRESS_BOB).build();
+        modelManager.setPerson(alice, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getSortedEventTagList_eventTagsAddedAndRemoved_sortedByStartDate() {
+        modelManager.addEventTag(BIRTHDAY);
+        modelManager.addEventTag(MEETING);
+        modelManager.addEventTag(PRESENTATION);
+        assertEquals(Arrays.asList(MEETING, PRESENTATION, BIRTHDAY), modelManager.getSortedEventTagList());
+
+        modelManager.deleteEventTag(PRESENTATION);
+        assertEquals(Arrays.asList(MEETING, BIRTHDAY), modelManager.getSortedEventTagList());
+    }
+
+    @Test
+    public void getSortedEventTagList_addressBookReset_followsNewEventTags() {
+        modelManager.addEventTag(MEETING);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEventTag(BIRTHDAY);
+        modelManager.setAddressBook(addressBook);
+        assertEquals(Arrays.asList(BIRTHDAY), modelManager.getSortedEventTagList());
+    }
+
+    @Test
+    public void getSortedEventTagList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getSortedEventTagList().add(MEETING));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.PersonChunkList.CHUNK_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonRecordsStub;
+
+public class PersonChunkListTest {
+
+    private final PersonRecordsStub records = new PersonRecordsStub(Arrays.asList(ALICE, BENSON, CARL));
+    private final PersonChunkList personChunkList = new PersonChunkList(records);
+
+    @Test
+    public void constructor_records_nothingLoaded() {
+        assertEquals(3, personChunkList.size());
+        assertEquals(0, records.getReadCount());
+        assertFalse(personChunkList.isLoaded(0));
+    }
+
+    @Test
+    public void get_sameIndexTwice_loadsOnce() {
+        Person benson = personChunkList.get(1);
+        assertEquals(BENSON, benson);
+        assertSame(benson, personChunkList.get(1));
+        assertEquals(1, records.getReadCount());
+        assertTrue(personChunkList.isLoaded(1));
+        assertFalse(personChunkList.isLoaded(0));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> personChunkList.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> personChunkList.get(-1));
+    }
+
+    @Test
+    public void addSetRemove_keepsRemainingRecords() {
+        personChunkList.add(0, HOON);
+        personChunkList.set(2, ALICE);
+        personChunkList.remove(1);
+
+        // ALICE was created to be returned by remove, and BENSON to be returned by set
+        assertEquals(2, records.getReadCount());
+        assertFalse(personChunkList.isLoaded(2));
+        assertSame(ALICE, personChunkList.get(1));
+        assertEquals(Arrays.asList(HOON, ALICE, CARL), personChunkList);
+    }
+
+    @Test
+    public void indexOf_loadedPerson_doesNotLoadOthers() {
+        Person carl = personChunkList.get(2);
+        assertEquals(2, personChunkList.indexOf(carl));
+        assertEquals(1, records.getReadCount());
+
+        assertEquals(1, personChunkList.indexOf(BENSON));
+        assertEquals(-1, personChunkList.indexOf(HOON));
+        assertEquals(-1, personChunkList.indexOf(null));
+    }
+
+    @Test
+    public void copyConstructor_loadedPersons_sharedUntilChanged() {
+        Person alice = personChunkList.get(0);
+        personChunkList.set(1, HOON);
+
+        PersonChunkList copy = new PersonChunkList(personChunkList);
+        assertTrue(copy.isLoaded(0));
+        assertFalse(copy.isLoaded(2));
+        assertSame(alice, copy.get(0));
+        assertSame(HOON, copy.get(1));
+
+        // neither list loads records for the other
+        copy.get(2);
+        assertFalse(personChunkList.isLoaded(2));
+        assertEquals(personChunkList, copy);
+
+        copy.remove(0);
+        personChunkList.set(1, BENSON);
+        assertEquals(Arrays.asList(HOON, CARL), copy);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), personChunkList);
+    }
+
+    @Test
+    public void freeze_listChangedAfterwards_frozenCopyUnchanged() {
+        List<Person> frozen = personChunkList.freeze();
+        assertEquals(0, records.getReadCount());
+
+        personChunkList.set(0, HOON);
+        personChunkList.remove(2);
+        personChunkList.add(2, ALICE);
+        assertEquals(Arrays.asList(HOON, BENSON, ALICE), personChunkList);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), frozen);
+        assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, HOON));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove(0));
+    }
+
+    @Test
+    public void freeze_unloadedPersonReadTwice_notLoadedIntoList() {
+        List<Person> frozen = personChunkList.freeze();
+        frozen.get(1);
+        frozen.get(1);
+
+        // a frozen copy does not keep the persons it creates, as it may be read from other threads
+        assertEquals(2, records.getReadCount());
+        assertFalse(personChunkList.isLoaded(1));
+    }
+
+    @Test
+    public void addAndRemove_manyChunks_matchesArrayList() {
+        PersonChunkList persons = new PersonChunkList();
+        List<Person> expected = new ArrayList<>();
+        PersonBuilder personBuilder = new PersonBuilder();
+        for (int i = 0; i < CHUNK_SIZE * 5; i++) {
+            Person person = personBuilder.withName("Person " + i).build();
+            // inserting in the middle splits full chunks
+            int index = i % 3 == 0 ? expected.size() / 2 : expected.size();
+            persons.add(index, person);
+            expected.add(index, person);
+        }
+        assertEquals(expected, persons);
+
+        List<Person> frozen = persons.freeze();
+        List<Person> expectedFrozen = new ArrayList<>(expected);
+        // removing most persons merges the chunks left behind
+        for (int i = 0; expected.size() > CHUNK_SIZE / 2; i += 3) {
+            int index = i % expected.size();
+            assertSame(expected.remove(index), persons.remove(index));
+        }
+        assertEquals(expected, persons);
+        assertEquals(expectedFrozen, frozen);
+
+        persons.clear();
+        assertTrue(persons.isEmpty());
+        assertEquals(expectedFrozen, frozen);
+    }
+
+    @Test
+    public void clear_records_emptied() {
+        personChunkList.clear();
+        assertTrue(personChunkList.isEmpty());
+        assertEquals(0, records.getReadCount());
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -9,8 +11,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalTags.COLLEAGUE;
+import static seedu.address.testutil.TypicalTags.FRIEND;
+import static seedu.address.testutil.TypicalTags.OWES_MONEY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -90,6 +100,52 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getTags_tagsAddedOutOfOrder_iteratedInOrderOfName() {
+        // person cards show the tags in the order they are iterated, without sorting them
+        Person person = new PersonBuilder().withTags(OWES_MONEY.tagName, FRIEND.tagName).build()
+                .withAddedTags(Set.of(COLLEAGUE), Set.of());
+        assertEquals(Arrays.asList(COLLEAGUE, FRIEND, OWES_MONEY), new ArrayList<>(person.getTags()));
+    }
+
+    @Test
+    public void withAddedTags_newTags_returnsNewPerson() {
+        Person editedAlice = ALICE.withAddedTags(Set.of(COLLEAGUE), Set.of(MEETING));
+        assertTrue(editedAlice.containsTag(FRIEND));
+        assertTrue(editedAlice.containsTag(COLLEAGUE));
+        assertTrue(editedAlice.containsEventTag(MEETING));
+        assertFalse(ALICE.containsTag(COLLEAGUE));
+        assertFalse(ALICE.containsEventTag(MEETING));
+    }
+
+    @Test
+    public void withAddedTags_tagsAlreadyHeld_returnsSamePerson() {
+        assertSame(ALICE, ALICE.withAddedTags(Set.of(FRIEND), Set.of()));
+    }
+
+    @Test
+    public void withoutTag() {
+        Person editedAlice = ALICE.withoutTag(FRIEND);
+        assertFalse(editedAlice.containsTag(FRIEND));
+        assertTrue(ALICE.containsTag(FRIEND));
+
+        // tag not held -> returns same person
+        assertSame(ALICE, ALICE.withoutTag(COLLEAGUE));
+    }
+
+    @Test
+    public void withoutEventTag() {
+        Person aliceAtMeeting = ALICE.withAddedTags(Set.of(), Set.of(MEETING));
+        assertEquals(ALICE, aliceAtMeeting.withoutEventTag(MEETING));
+        assertSame(ALICE, ALICE.withoutEventTag(MEETING));
+    }
+
+    @Test
+    public void hashCode_differentEventTags_differentHashCode() {
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+        assertNotEquals(ALICE.hashCode(), ALICE.withAddedTags(Set.of(), Set.of(MEETING)).hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
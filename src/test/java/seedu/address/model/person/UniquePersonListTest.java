@@ -2,22 +2,28 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonRecordsStub;
 
 public class UniquePersonListTest {
 
@@ -47,6 +53,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getName()));
+        assertNull(uniquePersonList.get(BOB.getName()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +78,71 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_uniquePersons_addsAllWithOneChange() {
+        uniquePersonList.add(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertEquals(CARL, uniquePersonList.get(CARL.getName()));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setAll_personsInList_onlyTargetsReplaced() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.setAll(Arrays.asList(CARL, ALICE), Arrays.asList(editedCarl, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+        assertEquals(editedCarl, uniquePersonList.get(CARL.getName()));
+    }
+
+    @Test
+    public void setAll_targetNotInList_listUnchanged() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setAll(Arrays.asList(ALICE, CARL),
+                Arrays.asList(editedAlice, CARL)));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.setAll(Collections.singletonList(ALICE),
+                Collections.singletonList(CARL)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personsInList_removed() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, CARL));
+
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAll_personNotInList_listUnchanged() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, CARL)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -100,6 +185,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -127,6 +214,24 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersonAndRemove_afterEarlierRemoval_findPersonsAtMovedPositions() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(editedCarl, uniquePersonList.get(CARL.getName()));
+
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setAll(Collections.singletonList(ALICE), Collections.singletonList(ALICE));
+        assertEquals(Arrays.asList(editedCarl, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(ALICE, uniquePersonList.get(ALICE.getName()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(CARL));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +259,7 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -172,4 +278,40 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void constructor_personRecords_loadsPersonsWhenNeeded() {
+        PersonRecordsStub records = new PersonRecordsStub(Arrays.asList(ALICE, BOB));
+        UniquePersonList lazyList = new UniquePersonList(records);
+        assertEquals(0, records.getReadCount());
+
+        Person alice = lazyList.asUnmodifiableObservableList().get(0);
+        lazyList.setPerson(alice, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(1, records.getReadCount());
+
+        assertTrue(lazyList.contains(BOB));
+        assertEquals(2, records.getReadCount());
+    }
+
+    @Test
+    public void copyConstructor_personRecords_copyDoesNotLoadPersons() {
+        PersonRecordsStub records = new PersonRecordsStub(Arrays.asList(ALICE, BOB));
+        UniquePersonList lazyList = new UniquePersonList(records);
+        UniquePersonList copy = new UniquePersonList(lazyList);
+        assertEquals(0, records.getReadCount());
+
+        copy.remove(copy.get(ALICE.getName()));
+        assertFalse(copy.contains(ALICE));
+        assertTrue(lazyList.contains(ALICE));
+    }
+
+    @Test
+    public void copyConstructor_eagerList_independentCopy() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList copy = new UniquePersonList(uniquePersonList);
+        copy.add(BOB);
+
+        assertTrue(copy.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.BIRTHDAY;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
+import static seedu.address.testutil.TypicalTags.COLLEAGUE;
+import static seedu.address.testutil.TypicalTags.FRIEND;
+import static seedu.address.testutil.TypicalTags.OWES_MONEY;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_unsortedTagsWithDuplicates_sortedByNameWithoutDuplicates() {
+        TagSet<Tag> tags = TagSet.of(Arrays.asList(OWES_MONEY, FRIEND, COLLEAGUE, new Tag(FRIEND.tagName)));
+        assertEquals(Arrays.asList(COLLEAGUE, FRIEND, OWES_MONEY), new ArrayList<>(tags));
+        assertEquals(new HashSet<>(Arrays.asList(FRIEND, OWES_MONEY, COLLEAGUE)), tags);
+        assertEquals(tags.hashCode(), Set.of(FRIEND, OWES_MONEY, COLLEAGUE).hashCode());
+    }
+
+    @Test
+    public void of_tagSetOrEmpty_sharedInstance() {
+        TagSet<Tag> tags = TagSet.of(List.of(FRIEND));
+        assertSame(tags, TagSet.of(tags));
+        assertSame(TagSet.empty(), TagSet.of(new HashSet<Tag>()));
+    }
+
+    @Test
+    public void contains_eventTagsWithSameName_onlyEqualTagContained() {
+        EventTag otherMeeting = new EventTag(MEETING.tagName, "Other meeting", LocalDateTime.parse("2024-05-01T09:00"),
+                LocalDateTime.parse("2024-05-01T10:00"));
+        TagSet<EventTag> eventTags = TagSet.of(List.of(BIRTHDAY, MEETING));
+        assertTrue(eventTags.contains(MEETING));
+        assertFalse(eventTags.contains(otherMeeting));
+        assertFalse(eventTags.contains("meeting"));
+    }
+
+    @Test
+    public void with() {
+        TagSet<Tag> tags = TagSet.of(List.of(FRIEND));
+        TagSet<Tag> moreTags = tags.with(List.of(COLLEAGUE, FRIEND));
+        assertEquals(Set.of(FRIEND, COLLEAGUE), moreTags);
+        assertEquals(Set.of(FRIEND), tags);
+
+        // tags already held -> returns same set
+        assertSame(moreTags, moreTags.with(List.of(COLLEAGUE)));
+    }
+
+    @Test
+    public void withoutName() {
+        TagSet<Tag> tags = TagSet.of(List.of(FRIEND, COLLEAGUE));
+        assertEquals(Set.of(COLLEAGUE), tags.withoutName(FRIEND.tagName));
+        assertSame(TagSet.empty(), tags.withoutName(FRIEND.tagName).withoutName(COLLEAGUE.tagName));
+
+        // no tag of that name -> returns same set
+        assertSame(tags, tags.withoutName(OWES_MONEY.tagName));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet<Tag> tags = TagSet.of(List.of(FRIEND));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(COLLEAGUE));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(COLLEAGUE));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the cost of looking up event tags by name in a {@code UniqueTagList} as the number of event tags grows.
+ * This is left out of the {@code test} task. Run it with the {@code benchmark} task, which prints the average time
+ * per lookup for each list size; the figures should stay roughly flat from 1k to 100k event tags.
+ */
+@Tag("benchmark")
+public class UniqueTagListBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int LOOKUPS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    // a lookup that scans the list would be about 100 times slower at the largest size than at the smallest
+    private static final double MAX_SLOWDOWN = 10;
+    private static final LocalDateTime DATE = LocalDateTime.parse("2024-04-01T09:00:00");
+
+    @Test
+    public void getEventTag_growingList_lookupTimeRoughlyFlat() {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int size : SIZES) {
+                measure(size);
+            }
+        }
+
+        System.out.println("event tags | contains(String) ns/op | getEventTag(String) ns/op");
+        long[][] results = new long[SIZES.length][];
+        for (int i = 0; i < SIZES.length; i++) {
+            results[i] = measure(SIZES[i]);
+            System.out.printf("%10d | %22.1f | %25.1f%n", SIZES[i],
+                    (double) results[i][0] / LOOKUPS, (double) results[i][1] / LOOKUPS);
+        }
+
+        long[] smallest = results[0];
+        long[] largest = results[SIZES.length - 1];
+        assertTrue(largest[0] < smallest[0] * MAX_SLOWDOWN, "contains(String) should not grow with the list");
+        assertTrue(largest[1] < smallest[1] * MAX_SLOWDOWN, "getEventTag(String) should not grow with the list");
+    }
+
+    /**
+     * Returns the total time in nanoseconds taken by {@code LOOKUPS} calls to {@code contains(String)} and to
+     * {@code getEventTag(String)} on a list holding {@code size} event tags.
+     */
+    private static long[] measure(int size) {
+        UniqueTagList<EventTag> eventTags = new UniqueTagList<>();
+        String[] names = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = "event" + i;
+            eventTags.add(new EventTag(names[i], "Benchmark event " + i, DATE, DATE));
+        }
+
+        Random random = new Random(size);
+        int[] order = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            order[i] = random.nextInt(size);
+        }
+
+        int hits = 0;
+        long start = System.nanoTime();
+        for (int i : order) {
+            if (eventTags.contains(names[i])) {
+                hits++;
+            }
+        }
+        long containsTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i : order) {
+            if (eventTags.getEventTag(names[i]) != null) {
+                hits++;
+            }
+        }
+        long getTime = System.nanoTime() - start;
+
+        assertEquals(2 * LOOKUPS, hits);
+        return new long[] {containsTime, getTime};
+    }
+}
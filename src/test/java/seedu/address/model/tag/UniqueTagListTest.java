@@ -71,6 +71,13 @@ public class UniqueTagListTest {
         assertThrows(DuplicateTagException.class, () -> uniqueTagList.add(new Tag("friends")));
     }
 
+    @Test
+    public void add_eventTagWithSameName_throwsDuplicateTagException() {
+        uniqueTagList.add(new EventTag("event", "first", LocalDateTime.now(), LocalDateTime.now()));
+        assertThrows(DuplicateTagException.class, () -> uniqueTagList.add(
+                new EventTag("event", "second", LocalDateTime.now(), LocalDateTime.now())));
+    }
+
     @Test
     public void replace_validTags_replacesTag() {
         Tag oldTag = new Tag("old");
@@ -78,6 +85,7 @@ public class UniqueTagListTest {
         uniqueTagList.add(oldTag);
         uniqueTagList.replace(oldTag, newTag);
         assertTrue(uniqueTagList.contains(newTag) && !uniqueTagList.contains(oldTag));
+        assertTrue(uniqueTagList.contains("new") && !uniqueTagList.contains("old"));
     }
 
     @Test
@@ -126,7 +134,9 @@ public class UniqueTagListTest {
         uniqueTagList.remove("friends");
         UniqueTagList<Tag> expectedUniqueTagList = new UniqueTagList<>();
         assertEquals(expectedUniqueTagList, uniqueTagList);
+        assertFalse(uniqueTagList.contains("friends"));
     }
+
     @Test
     public void setTags_nullUniqueTagList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTagList.setTags((UniqueTagList<Tag>) null));
@@ -155,6 +165,15 @@ public class UniqueTagListTest {
         expectedUniqueTagList.add(new Tag("colleagues"));
         expectedUniqueTagList.add(new Tag("family"));
         assertEquals(expectedUniqueTagList, uniqueTagList);
+        assertFalse(uniqueTagList.contains("friends"));
+    }
+
+    @Test
+    public void setTags_setWithDuplicateTagNames_throwsDuplicateTagException() {
+        Set<Tag> tagSet = new HashSet<>(Arrays.asList(
+                new EventTag("event", "first", LocalDateTime.now(), LocalDateTime.now()),
+                new EventTag("event", "second", LocalDateTime.now(), LocalDateTime.now())));
+        assertThrows(DuplicateTagException.class, () -> uniqueTagList.setTags(tagSet));
     }
 
     @Test
@@ -165,6 +184,24 @@ public class UniqueTagListTest {
         assertSame(eventTag, uniqueTagList.getEventTag("event"));
     }
 
+    @Test
+    public void getEventTag_manyEventTagsSomeRemoved_remainingFoundByName() {
+        UniqueTagList<EventTag> eventTags = new UniqueTagList<>();
+        LocalDateTime date = LocalDateTime.now();
+        for (int i = 0; i < 1000; i++) {
+            eventTags.add(new EventTag("event" + i, "", date, date));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            eventTags.removeEvent("event" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            boolean isRemoved = i % 2 == 0;
+            assertEquals(!isRemoved, eventTags.contains("event" + i));
+            assertEquals(isRemoved, eventTags.getEventTag("event" + i) == null);
+        }
+    }
+
     @Test
     public void getEventTag_nonExistingEventTag_returnsNull() {
         assertNull(uniqueTagList.getEventTag("nonExistingEvent"));
@@ -177,6 +214,14 @@ public class UniqueTagListTest {
         uniqueTagList.add(eventTag);
         assertNotNull(uniqueTagList.removeEvent("event"));
         assertFalse(uniqueTagList.contains(eventTag));
+        assertNull(uniqueTagList.getEventTag("event"));
+    }
+
+    @Test
+    public void removeEvent_plainTag_returnsNull() {
+        uniqueTagList.add(new Tag("friends"));
+        assertNull(uniqueTagList.removeEvent("friends"));
+        assertTrue(uniqueTagList.contains("friends"));
     }
 
     @Test
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
+import static seedu.address.testutil.TypicalEventTags.PRESENTATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.bin");
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStream.isBinaryFile(getFilePath()));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_emptyAddressBook_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sharedTags_readAsSameTags() throws Exception {
+        Person alice = new PersonBuilder(ALICE).withTags("friends").withEventTags().build();
+        Person hoon = new PersonBuilder(HOON).withTags("friends").withEventTags().build();
+        AddressBook original = new AddressBookBuilder().withPerson(alice).withPerson(hoon).build();
+        original.addEventTag(MEETING);
+        original.addEventTag(PRESENTATION);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(original.getTagList(), readBack.getTagList());
+        assertEquals(original.getEventTagList(), readBack.getEventTagList());
+        Tag aliceTag = readBack.getPersonList().get(0).getTags().iterator().next();
+        Tag hoonTag = readBack.getPersonList().get(1).getTags().iterator().next();
+        assertSame(aliceTag, hoonTag);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        new JsonAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStream.isBinaryFile(getFilePath()));
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertTrue(BinaryAddressBookStream.isBinaryFile(getFilePath()));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_binaryFileWithJsonStorage_convertedOnSave() throws Exception {
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(getFilePath());
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertFalse(BinaryAddressBookStream.isBinaryFile(getFilePath()));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_loadsPreviousGeneration() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        byte[] content = Files.readAllBytes(getFilePath());
+        content[content.length / 2] ^= 1;
+        Files.write(getFilePath(), content);
+
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFileWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(getFilePath());
+        Files.write(getFilePath(), Arrays.copyOf(content, content.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidTagId_sameFailureForFullAndMappedRead() throws Exception {
+        Person alice = new PersonBuilder(ALICE).withTags("friends").withEventTags().build();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(getFilePath());
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(alice).build());
+
+        // the record of the only person ends with its tag count, its tag id and its event tag count
+        byte[] content = Files.readAllBytes(getFilePath());
+        int checksumOffset = content.length - Long.BYTES;
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        buffer.putInt(checksumOffset - 2 * Integer.BYTES, 1);
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, checksumOffset);
+        buffer.putLong(checksumOffset, crc.getValue());
+        Files.write(getFilePath(), content);
+
+        String expectedMessage = new IOException(BinaryAddressBookStream.MESSAGE_INVALID_TAG_ID).toString();
+        assertThrows(DataLoadingException.class, expectedMessage, () -> storage.readAddressBook());
+        assertThrows(DataLoadingException.class, expectedMessage, () ->
+                new MappedAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journaledBinarySnapshot_success() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(
+                new BinaryAddressBookStorage(getFilePath()), JournalingAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(BinaryAddressBookStream.isBinaryFile(getFilePath()));
+        assertEquals(addressBook, new JournalingAddressBookStorage(new BinaryAddressBookStorage(getFilePath()),
+                JournalingAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD).readAddressBook().get());
+    }
+}
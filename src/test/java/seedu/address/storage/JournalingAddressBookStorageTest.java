@@ -0,0 +1,338 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEventTags.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getSnapshotFilePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private Path getJournalFilePath() {
+        return JournalingAddressBookStorage.getJournalFilePath(getSnapshotFilePath());
+    }
+
+    /**
+     * Reads the address book back with a new storage, as would happen when the app is next started.
+     */
+    private ReadOnlyAddressBook readFromNewStorage() throws Exception {
+        return new JournalingAddressBookStorage(getSnapshotFilePath()).readAddressBook().get();
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalingAddressBookStorage(null));
+    }
+
+    @Test
+    public void getJournalFilePath_snapshotFilePath_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("addressBook.json.journal"), getJournalFilePath());
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalingAddressBookStorage(getSnapshotFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.exists(getSnapshotFilePath()));
+        assertFalse(Files.exists(getJournalFilePath()));
+        assertEquals(getTypicalAddressBook(), readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_afterFirstSave_appendsToJournalOnly() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(getSnapshotFilePath());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+
+        assertEquals(snapshot, FileUtil.readFromFile(getSnapshotFilePath()));
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_sameAddressBookChanged_journalsRecordedChanges() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // comparing the address books would find no change, so the entries must come from the recorded changes
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(addressBook.snapshot(1));
+        assertEquals(3, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotWritten() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(Files.exists(getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_personRenamed_keepsPosition() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_tagsChanged_replaysTagChanges() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        Person alice = new PersonBuilder(ALICE).withEventTags().build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(alice).build();
+        addressBook.addEventTag(MEETING);
+        storage.saveAddressBook(addressBook);
+
+        Tag colleagues = new Tag("colleagues");
+        addressBook.addTag(colleagues);
+        addressBook.removeTag(new Tag("friends"));
+        addressBook.removeEventTag(MEETING);
+        addressBook.addEventTag(new EventTag("standup", "Daily standup", MEETING.startDate, MEETING.endDate));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath(), 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(getJournalFilePath()));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(getJournalFilePath()));
+        assertEquals(addressBook, readFromNewStorage());
+
+        // the next change goes to a new journal on top of the compacted snapshot
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(getJournalFilePath()));
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void compactJournal_journalWithEntries_writesSnapshotAndDeletesJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.compactJournal();
+        assertFalse(Files.exists(getJournalFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(getSnapshotFilePath()).readAddressBook().get());
+
+        // later changes are journaled on top of the compacted snapshot
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void compactJournal_noJournal_snapshotUnchanged() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        String snapshot = FileUtil.readFromFile(getSnapshotFilePath());
+
+        storage.compactJournal();
+        assertEquals(snapshot, FileUtil.readFromFile(getSnapshotFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_journalOnly_replaysOntoEmptyAddressBook() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        storage.saveAddressBook(new AddressBook());
+        AddressBook addressBook = new AddressBookBuilder().withPerson(HOON).build();
+        storage.saveAddressBook(addressBook);
+        Files.delete(getSnapshotFilePath());
+
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_skipsEntryAndRepairsJournal() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        FileUtil.appendToFile(getJournalFilePath(), "{\"op\":\"putPer");
+
+        JournalingAddressBookStorage reopenedStorage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        assertEquals(addressBook, reopenedStorage.readAddressBook().get());
+
+        addressBook.addPerson(IDA);
+        reopenedStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_lastEntryWithoutLineBreak_appliedAndLineBreakAdded() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        String journal = FileUtil.readFromFile(getJournalFilePath());
+        FileUtil.writeToFile(getJournalFilePath(), journal.substring(0, journal.length() - 1));
+
+        JournalingAddressBookStorage reopenedStorage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        assertEquals(addressBook, reopenedStorage.readAddressBook().get());
+
+        addressBook.addPerson(IDA);
+        reopenedStorage.saveAddressBook(addressBook);
+        assertEquals(2, FileUtil.readFromFile(getJournalFilePath()).split("\n").length);
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        FileUtil.appendToFile(getJournalFilePath(),
+                "not json\n{\"op\":\"removePerson\",\"target\":\"Alice Pauline\"}\n");
+
+        assertThrows(DataLoadingException.class, this::readFromNewStorage);
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedRead_keepsUnreadableFiles() throws Exception {
+        new JournalingAddressBookStorage(getSnapshotFilePath()).saveAddressBook(getTypicalAddressBook());
+        FileUtil.appendToFile(getJournalFilePath(),
+                "not json\n{\"op\":\"removePerson\",\"target\":\"Alice Pauline\"}\n");
+        String snapshot = FileUtil.readFromFile(getSnapshotFilePath());
+        String journal = FileUtil.readFromFile(getJournalFilePath());
+
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        // as the app does after failing to load
+        AddressBook emptyAddressBook = new AddressBook();
+        storage.saveAddressBook(emptyAddressBook);
+
+        String corruptFileSuffix = JournalingAddressBookStorage.CORRUPT_FILE_SUFFIX;
+        assertEquals(snapshot, FileUtil.readFromFile(testFolder.resolve("addressBook.json" + corruptFileSuffix)));
+        assertEquals(journal, FileUtil.readFromFile(testFolder.resolve("addressBook.json.journal"
+                + corruptFileSuffix)));
+        assertFalse(Files.exists(getJournalFilePath()));
+        assertEquals(emptyAddressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_unknownOperation_throwsDataLoadingException() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.appendToFile(getJournalFilePath(), "{\"op\":\"renameEverything\"}\n");
+
+        assertThrows(DataLoadingException.class, this::readFromNewStorage);
+    }
+
+    @Test
+    public void readAddressBook_journalReplayedTwice_sameResult() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // as if the app stopped after compacting but before the journal was deleted
+        String journal = FileUtil.readFromFile(getJournalFilePath());
+        new JsonAddressBookStorage(getSnapshotFilePath()).saveAddressBook(addressBook);
+        FileUtil.writeToFile(getJournalFilePath(), journal);
+
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(getSnapshotFilePath()));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook(otherFilePath).get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_journalIsDirectory_throwsIoException() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(getSnapshotFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.createDirectory(getJournalFilePath());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+    }
+}
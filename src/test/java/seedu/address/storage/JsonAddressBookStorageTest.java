@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +17,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,95 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(expected, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_fieldsInAnyOrderWithUnknownFields_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"eventTagList\": [], \"unknown\": { \"persons\": [1, 2] },"
+                + " \"persons\": [ { \"name\": \"Alice Pauline\", \"phone\": \"94351253\","
+                + " \"email\": \"alice@example.com\", \"address\": \"123, Jurong West Ave 6, #08-111\","
+                + " \"tags\": [ \"friends\" ] } ], \"tagList\": [ \"friends\", \"colleagues\" ] }");
+
+        AddressBook expected = new AddressBook();
+        expected.addTag(new Tag("friends"));
+        expected.addTag(new Tag("colleagues"));
+        expected.addPerson(new PersonBuilder(ALICE).withEventTags().build());
+        assertEquals(expected, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(getTypicalAddressBook(), readBack);
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_keepsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath)));
+
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        assertEquals(modified, storage.readAddressBook().get());
+        assertEquals(original, new JsonAddressBookStorage(JsonAddressBookStorage.getBackupFilePath(filePath))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_loadsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        // still valid JSON with valid values, but not what was saved
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replace(HOON.getPhone().value, "11111111"));
+
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replace(ALICE.getPhone().value, "11111111"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
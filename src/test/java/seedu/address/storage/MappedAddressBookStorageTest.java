@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.InvalidPersonRecordException;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.bin");
+    }
+
+    private JournalingAddressBookStorage createJournalingStorage() {
+        return new JournalingAddressBookStorage(new MappedAddressBookStorage(getFilePath()),
+                JournalingAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_sameAsFullRead() throws Exception {
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook mapped = new MappedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), mapped);
+        assertEquals(getTypicalAddressBook().getTagList(), mapped.getTagList());
+        assertEquals(getTypicalAddressBook().getEventTagList(), mapped.getEventTagList());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_mappedAddressBookChanged_success() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        new JsonAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertTrue(BinaryAddressBookStream.isBinaryFile(getFilePath()));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_loadsPreviousGeneration() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        // the checksum is not checked when mapping, so the layout of the records is broken
+        byte[] content = Files.readAllBytes(getFilePath());
+        Files.write(getFilePath(), Arrays.copyOf(content, content.length / 2));
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFileWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(getFilePath());
+        Files.write(getFilePath(), Arrays.copyOf(content, content.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonField_failsWhenPersonAccessed() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        replaceWithValidChecksum("Alice Pauline", "Alice Paulin!");
+
+        // persons are only checked when they are created, so loading does not go through every person
+        ReadOnlyAddressBook mapped = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook().getPersonList().get(1), mapped.getPersonList().get(1));
+        assertThrows(InvalidPersonRecordException.class, () -> mapped.getPersonList().get(0));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_failsWhenLookedUpByName() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        replaceWithValidChecksum("Benson Meier", "Daniel Meier");
+
+        AddressBook mapped = new AddressBook(storage.readAddressBook().get());
+        assertThrows(DuplicatePersonException.class, () -> mapped.hasPerson(HOON));
+    }
+
+    @Test
+    public void saveAddressBook_mappedFileReplaced_mappedAddressBookUnchanged() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook mapped = storage.readAddressBook().get();
+
+        // the mapped address book is moved to a copy before its file and the backup are replaced
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        storage.saveAddressBook(other);
+        storage.saveAddressBook(other);
+        assertEquals(getTypicalAddressBook().getPersonList(), mapped.getPersonList());
+        assertEquals(other, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journaledMappedSnapshot_journalsChangesOnly() throws Exception {
+        createJournalingStorage().saveAddressBook(getTypicalAddressBook());
+
+        JournalingAddressBookStorage storage = createJournalingStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(JournalingAddressBookStorage.getJournalFilePath(getFilePath())));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, createJournalingStorage().readAddressBook().get());
+    }
+
+    @Test
+    public void compactJournal_journaledMappedSnapshot_journalDeleted() throws Exception {
+        createJournalingStorage().saveAddressBook(getTypicalAddressBook());
+        JournalingAddressBookStorage storage = createJournalingStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.compactJournal();
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalFilePath(getFilePath())));
+        assertEquals(addressBook, new MappedAddressBookStorage(getFilePath()).readAddressBook().get());
+    }
+
+    /**
+     * Replaces the first occurrence of {@code target} in the data file with {@code replacement}, which must have the
+     * same length, and updates the checksum of the file to match.
+     */
+    private void replaceWithValidChecksum(String target, String replacement) throws Exception {
+        byte[] content = Files.readAllBytes(getFilePath());
+        String text = new String(content, StandardCharsets.ISO_8859_1);
+        int index = text.indexOf(target);
+        assertTrue(index >= 0);
+        byte[] replacementBytes = replacement.getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(replacementBytes, 0, content, index, replacementBytes.length);
+
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length - Long.BYTES);
+        ByteBuffer.wrap(content).putLong(content.length - Long.BYTES, crc.getValue());
+        Files.write(getFilePath(), content);
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    // Long enough that no background write happens unless flushed.
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDelegate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")), LONG_DELAY_MILLIS);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_beforeFlush_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_multipleSaves_writesLatestOnce() throws Exception {
+        CountingAddressBookStorage delegate = new CountingAddressBookStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, LONG_DELAY_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(1, delegate.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savedAgainWithinDelay_writePushedBack() throws Exception {
+        CountingAddressBookStorage delegate = new CountingAddressBookStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, 1000);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        Thread.sleep(600);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Thread.sleep(600);
+        // more than the delay has passed since the first save, but not since the second
+        assertEquals(0, delegate.saveCount);
+
+        storage.flush();
+        assertEquals(1, delegate.saveCount);
+    }
+
+    @Test
+    public void saveAddressBook_savedRepeatedlyPastMaxDelay_writtenAfterMaxDelay() throws Exception {
+        CountingAddressBookStorage delegate = new CountingAddressBookStorage(testFolder.resolve("ab.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(delegate, 2000, 1000);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        Thread.sleep(500);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Thread.sleep(1000);
+        // the second save would have pushed the write back to 2500 milliseconds after the first
+        assertEquals(1, delegate.saveCount);
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_writesDataAsSaved() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")), LONG_DELAY_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_previousWriteFailed_throwsIoException() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new FailingAddressBookStorage(testFolder.resolve("ab.json"), 1), 0);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        Thread.sleep(500);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(getTypicalAddressBook()));
+
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    @Test
+    public void flush_previousWriteFailed_failedAddressBookWrittenAgain() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new FailingAddressBookStorage(filePath, 1), LONG_DELAY_MILLIS);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+
+        // the failure is only reported once, and the address book is written by the next write
+        storage.flush();
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void close_pendingSave_written() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the number of saves made to it.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile int saveCount;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that fails its first saves.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private int failuresLeft;
+
+        FailingAddressBookStorage(Path filePath, int failureCount) {
+            super(filePath);
+            failuresLeft = failureCount;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("dummy exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecords;
+
+/**
+ * A {@code PersonRecords} holding the given persons, which creates a new copy of a person each time its record is
+ * read and counts the number of reads.
+ */
+public class PersonRecordsStub implements PersonRecords {
+
+    private final List<Person> persons;
+    private int readCount;
+
+    public PersonRecordsStub(List<Person> persons) {
+        this.persons = new ArrayList<>(persons);
+    }
+
+    public int getReadCount() {
+        return readCount;
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    public Person get(int index) {
+        readCount++;
+        return new PersonBuilder(persons.get(index)).build();
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.EventTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the time and the memory allocated per row when scrolling a {@code PersonListPanel} through a large list,
+ * against creating a new {@code PersonCard} for every row as the panel used to.
+ * This is left out of the {@code test} task. Run it with the {@code benchmark} task, which prints the figures.
+ * The list has to be shown and laid out to be measured, so this needs a display, and is skipped without one.
+ * Scrolling should take well under the 16ms of a frame at 60 fps, and allocate far less per row than a new card does.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+public class PersonListPanelBenchmark {
+
+    private static final int PERSONS = 100_000;
+    private static final int ROWS_SCROLLED = 20_000;
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MAX_TAGS = 4;
+    private static final long FRAME_NANOS = 16_000_000;
+    private static final LocalDateTime DATE = LocalDateTime.parse("2024-04-01T09:00:00");
+
+    @Test
+    public void scroll_largeList_cellsReusedWithinFrame() throws Exception {
+        ObservableList<Person> persons = createPersons(PERSONS);
+        AtomicReference<long[][]> results = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        boolean hasDisplay = true;
+        try {
+            Platform.startup(() -> {
+                try {
+                    results.set(run(persons));
+                } catch (Throwable t) {
+                    failure.set(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+        } catch (UnsupportedOperationException e) {
+            // thrown when there is no display to open, such as on a headless build server
+            hasDisplay = false;
+        }
+        assumeTrue(hasDisplay, "Rendering the person list needs a display");
+        done.await();
+        Platform.exit();
+
+        assertNull(failure.get());
+        long[] scrolled = results.get()[0];
+        long[] created = results.get()[1];
+        assertTrue(scrolled[0] / ROWS_SCROLLED < FRAME_NANOS, "Scrolling a row should take less than a frame");
+        assertTrue(scrolled[1] < created[1], "Scrolling should allocate less than creating a card for every row");
+    }
+
+    /**
+     * Shows a panel of {@code persons}, and returns the time in nanoseconds and the bytes allocated to scroll through
+     * it, then to create a new card for as many rows.
+     */
+    private static long[][] run(ObservableList<Person> persons) {
+        PersonListPanel panel = new PersonListPanel(persons);
+        Region root = panel.getRoot();
+        Stage stage = new Stage();
+        stage.setScene(new Scene(root, 600, 800));
+        stage.show();
+        @SuppressWarnings("unchecked")
+        ListView<Person> listView = (ListView<Person>) root.lookup("#personListView");
+
+        scroll(root, listView, 0, WARMUP_ROWS);
+        long[] scrolled = scroll(root, listView, WARMUP_ROWS, ROWS_SCROLLED);
+        createCards(persons, 0, WARMUP_ROWS);
+        long[] created = createCards(persons, WARMUP_ROWS, ROWS_SCROLLED);
+        stage.close();
+
+        System.out.println("persons: " + persons.size() + ", rows: " + ROWS_SCROLLED);
+        System.out.println("rendering           | us/row | bytes/row");
+        System.out.printf("scroll, reused cell | %6.1f | %9d%n", scrolled[0] / 1e3 / ROWS_SCROLLED,
+                scrolled[1] / ROWS_SCROLLED);
+        System.out.printf("new PersonCard      | %6.1f | %9d%n", created[0] / 1e3 / ROWS_SCROLLED,
+                created[1] / ROWS_SCROLLED);
+        return new long[][] {scrolled, created};
+    }
+
+    /**
+     * Scrolls one row at a time through {@code rows} rows starting at {@code from}, laying out the list after each
+     * row as a frame would, and returns the time in nanoseconds and the bytes allocated.
+     */
+    private static long[] scroll(Region root, ListView<Person> listView, int from, int rows) {
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = from; i < from + rows; i++) {
+            listView.scrollTo(i);
+            root.applyCss();
+            root.layout();
+        }
+        return new long[] {System.nanoTime() - start, allocatedBytes() - startBytes};
+    }
+
+    /**
+     * Creates a new card for each of {@code rows} persons starting at {@code from}, and returns the time in
+     * nanoseconds and the bytes allocated.
+     */
+    private static long[] createCards(ObservableList<Person> persons, int from, int rows) {
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = from; i < from + rows; i++) {
+            new PersonCard(persons.get(i), i + 1);
+        }
+        return new long[] {System.nanoTime() - start, allocatedBytes() - startBytes};
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static ObservableList<Person> createPersons(int personCount) {
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        for (int i = 0; i < personCount; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int t = 0; t < i % (MAX_TAGS + 1); t++) {
+                tags.add(new Tag("tag" + t));
+            }
+            Set<EventTag> eventTags = new HashSet<>();
+            if (i % 3 == 0) {
+                eventTags.add(new EventTag("event" + (i % 10), "Benchmark event", DATE, DATE));
+            }
+            persons.add(new Person(new Name("Person " + i), new Phone(String.format("9%07d", i)),
+                    new Email("person" + i + "@example.com"), new Address(i + " Benchmark Street"), tags, eventTags));
+        }
+        return persons;
+    }
+}